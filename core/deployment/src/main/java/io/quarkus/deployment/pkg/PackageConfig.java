@@ -1,5 +1,6 @@
 package io.quarkus.deployment.pkg;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -102,6 +103,36 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> userProvidersDirectory;
 
+    /**
+     * This is an advanced option that only takes effect for the fast-jar and mutable-jar formats.
+     *
+     * If this is true the offsets and sizes of the entries of all jars are stored in the application metadata when the
+     * application is packaged. At runtime the jars are memory mapped and the classes and resources are read directly
+     * from the mapped jars instead of being looked up via {@code java.util.zip.ZipFile}. This reduces the startup time
+     * at the cost of a larger application metadata file.
+     */
+    @ConfigItem
+    public boolean memoryMappedJars;
+
+    /**
+     * This is an advanced option that only takes effect for the fast-jar and mutable-jar formats.
+     *
+     * If this is true the packaged application is launched once at build time, and the list of classes that are loaded
+     * before the application has started is stored in {@code quarkus/class-loading-profile.lst}. When the application
+     * is launched these classes are loaded by a background thread while the application is starting.
+     *
+     * Note that the application must be able to start in the build environment for the profile to be created.
+     */
+    @ConfigItem
+    public boolean createClassLoadingProfile;
+
+    /**
+     * The maximum time the application launched to create the class loading profile may take to start. If it has not
+     * exited by then it is stopped, and the application is packaged without the profile.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration classLoadingProfileTimeout;
+
     public boolean isAnyJarType() {
         return (type.equalsIgnoreCase(PackageConfig.LEGACY) ||
                 type.equalsIgnoreCase(PackageConfig.JAR) ||
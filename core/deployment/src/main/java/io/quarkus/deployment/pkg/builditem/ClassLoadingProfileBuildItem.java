@@ -0,0 +1,27 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.nio.file.Path;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item containing the class loading profile that was added to the fast-jar output.
+ * <p>
+ * Steps that copy the fast-jar output, such as the container image steps, should consume this item as an
+ * {@code Optional} so that they run after the profile has been created.
+ */
+public final class ClassLoadingProfileBuildItem extends SimpleBuildItem {
+
+    /**
+     * The file containing the profile
+     */
+    private final Path profile;
+
+    public ClassLoadingProfileBuildItem(Path profile) {
+        this.profile = profile;
+    }
+
+    public Path getProfile() {
+        return profile;
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.utilities.JavaBinFinder;
+
+/**
+ * Launches the fast-jar application once to record the classes that are loaded during startup.
+ *
+ * @see ClassLoadingProfile
+ */
+public class ClassLoadingProfileBuildStep {
+
+    private static final Logger log = Logger.getLogger(ClassLoadingProfileBuildStep.class);
+
+    private static final File NULL_FILE = new File(SystemUtils.IS_OS_WINDOWS ? "NUL" : "/dev/null");
+
+    @BuildStep
+    public void build(JarBuildItem jarResult, PackageConfig packageConfig, LaunchMode launchMode,
+            BuildProducer<ClassLoadingProfileBuildItem> classLoadingProfile,
+            BuildProducer<ArtifactResultBuildItem> artifactResult) throws IOException {
+        if (!packageConfig.createClassLoadingProfile || launchMode != LaunchMode.NORMAL) {
+            return;
+        }
+        if (!packageConfig.isFastJar()) {
+            log.warn("A class loading profile can only be created for the fast-jar and mutable-jar package types.");
+            return;
+        }
+
+        Path appDir = jarResult.getLibraryDir().getParent();
+        Path profile = appDir.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE);
+        Files.deleteIfExists(profile);
+
+        List<String> command = new ArrayList<>(4);
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + JavaBinFinder.simpleBinaryName());
+        command.add(String.format("-D%s=true", ClassLoadingProfile.GENERATE_SYSTEM_PROPERTY));
+        command.add("-jar");
+        command.add(JarResultBuildStep.QUARKUS_RUN_JAR);
+
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to create the class loading profile.", String.join(" ", command));
+        }
+
+        int exitCode;
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(appDir.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(NULL_FILE);
+                processBuilder.redirectOutput(NULL_FILE);
+            }
+            Process process = processBuilder.start();
+            long timeout = packageConfig.classLoadingProfileTimeout.toMillis();
+            if (!process.waitFor(timeout, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly().waitFor();
+                log.warnf("Unable to create the class loading profile, the application did not start within %s. "
+                        + "The timeout can be changed with quarkus.package.class-loading-profile-timeout.",
+                        packageConfig.classLoadingProfileTimeout);
+                Files.deleteIfExists(profile);
+                return;
+            }
+            exitCode = process.exitValue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while creating the class loading profile.");
+            Files.deleteIfExists(profile);
+            return;
+        } catch (Exception e) {
+            log.warn("Failed to launch the process used to create the class loading profile.", e);
+            return;
+        }
+
+        if (exitCode != 0 || !Files.exists(profile)) {
+            log.warnf("Unable to create the class loading profile, the application exited with code %d.", exitCode);
+            Files.deleteIfExists(profile);
+            return;
+        }
+
+        log.debugf("Class loading profile successfully created at '%s'.", profile);
+        classLoadingProfile.produce(new ClassLoadingProfileBuildItem(profile));
+        artifactResult.produce(new ArtifactResultBuildItem(profile, "classLoadingProfile", Collections.emptyMap()));
+    }
+}
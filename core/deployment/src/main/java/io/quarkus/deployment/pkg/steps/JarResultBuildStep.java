@@ -557,7 +557,8 @@ public class JarResultBuildStep {
         }
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
-            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars);
+            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars,
+                    packageConfig.memoryMappedJars);
         }
 
         runnerJar.toFile().setReadable(true, false);
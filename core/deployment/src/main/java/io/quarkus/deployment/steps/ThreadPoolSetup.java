@@ -7,6 +7,7 @@ import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.ThreadPoolConfig;
 
@@ -24,6 +25,14 @@ public class ThreadPoolSetup {
                 recorder.setupRunTime(shutdownContextBuildItem, threadPoolConfig, launchModeBuildItem.getLaunchMode()));
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    public MetricsFactoryConsumerBuildItem registerMetrics(ExecutorRecorder recorder,
+            ExecutorBuildItem executorBuildItem) {
+        // the executor build item makes sure the executor is created before the metrics are registered
+        return new MetricsFactoryConsumerBuildItem(recorder.registerMetrics());
+    }
+
     @BuildStep
     RuntimeInitializedClassBuildItem registerClasses() {
         // make sure that the config provider gets initialized only at run time
@@ -9,6 +9,7 @@ import org.jboss.logging.Logger;
 import org.wildfly.common.Assert;
 import org.wildfly.common.lock.Locks;
 
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.dev.appstate.ApplicationStateNotification;
 import io.quarkus.runtime.shutdown.ShutdownRecorder;
@@ -113,6 +114,7 @@ public abstract class Application implements Closeable {
         } finally {
             stateLock.unlock();
         }
+        ClassLoadingProfile.startupComplete();
     }
 
     protected abstract void doStart(String[] args);
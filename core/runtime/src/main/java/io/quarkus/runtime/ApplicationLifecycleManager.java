@@ -18,6 +18,7 @@ import org.wildfly.common.lock.Locks;
 
 import com.oracle.svm.core.OS;
 
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
 import io.quarkus.runtime.graal.DiagnosticPrinter;
 import sun.misc.Signal;
 import sun.misc.SignalHandler;
@@ -90,7 +91,10 @@ public class ApplicationLifecycleManager {
         try {
             application.start(args);
             //now we are started, we either run the main application or just wait to exit
-            if (quarkusApplication != null) {
+            if (ClassLoadingProfile.isGenerating()) {
+                //the class loading profile was written when startup completed, so there is nothing left to do
+                exit(0);
+            } else if (quarkusApplication != null) {
                 BeanManager beanManager = CDI.current().getBeanManager();
                 Set<Bean<?>> beans = beanManager.getBeans(quarkusApplication, Any.Literal.INSTANCE);
                 Bean<?> bean = null;
@@ -52,6 +52,10 @@ public final class CleanableExecutor implements ExecutorService {
         this.executor = executor;
     }
 
+    EnhancedQueueExecutor getExecutor() {
+        return executor;
+    }
+
     public void clean() {
         //also clear the current thread, as this is called by the hot deployment thread so it is about to hit a new deployment
         Resetter.run();
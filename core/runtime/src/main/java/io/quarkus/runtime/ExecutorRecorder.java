@@ -1,11 +1,15 @@
 package io.quarkus.runtime;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.EnhancedQueueExecutor;
@@ -14,6 +18,7 @@ import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 /**
  *
@@ -34,11 +39,20 @@ public class ExecutorRecorder {
 
     private static volatile Executor current;
 
+    private static volatile InstrumentedExecutorService instrumented;
+
     public ExecutorService setupRunTime(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
             LaunchMode launchMode) {
+        if (threadPoolConfig.mode == ThreadPoolConfig.Mode.VIRTUAL) {
+            ExecutorService virtual = createVirtualThreadExecutor();
+            if (virtual != null) {
+                shutdownContext.addShutdownTask(createVirtualThreadShutdownTask(threadPoolConfig, virtual));
+                return instrument(threadPoolConfig, virtual, null);
+            }
+            log.warn("Virtual threads are not supported by this JVM, the pooled thread pool mode will be used");
+        }
         if (devModeExecutor != null) {
-            current = devModeExecutor;
-            return devModeExecutor;
+            return instrument(threadPoolConfig, devModeExecutor, devModeExecutor.getExecutor());
         }
         final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig);
         ExecutorService executor;
@@ -60,6 +74,30 @@ public class ExecutorRecorder {
         if (threadPoolConfig.prefill) {
             underlying.prestartAllCoreThreads();
         }
+        return instrument(threadPoolConfig, executor, underlying);
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                InstrumentedExecutorService executor = instrumented;
+                if (executor != null) {
+                    executor.registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+
+    private static ExecutorService instrument(ThreadPoolConfig threadPoolConfig, ExecutorService executor,
+            EnhancedQueueExecutor pool) {
+        if (threadPoolConfig.metricsEnabled) {
+            instrumented = new InstrumentedExecutorService(executor, pool);
+            executor = instrumented;
+        } else {
+            instrumented = null;
+        }
         current = executor;
         return executor;
     }
@@ -154,6 +192,48 @@ public class ExecutorRecorder {
         };
     }
 
+    /**
+     * Creates an executor that starts a new virtual thread for each task. This is done reflectively as the
+     * virtual thread API is not available on the JDK versions we compile against.
+     *
+     * @return the executor, or null if virtual threads are not supported
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "executor-virtual-thread-",
+                    0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor",
+                    ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+        } catch (Exception | LinkageError e) {
+            //not supported, or a preview feature that is not enabled
+            log.debugf(e, "Unable to create a virtual thread executor");
+            return null;
+        }
+    }
+
+    private static Runnable createVirtualThreadShutdownTask(ThreadPoolConfig threadPoolConfig, ExecutorService executor) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                executor.shutdown();
+                try {
+                    if (!executor.awaitTermination(threadPoolConfig.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        final List<Runnable> runnables = executor.shutdownNow();
+                        log.warnf("Virtual thread executor shutdown failed: interrupting running tasks, %d tasks discarded",
+                                runnables.size());
+                    }
+                } catch (InterruptedException e) {
+                    executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
     private static EnhancedQueueExecutor createExecutor(ThreadPoolConfig threadPoolConfig) {
         final JBossThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("executor"), Boolean.TRUE, null,
                 "executor-thread-%t", JBossExecutors.loggingExceptionHandler("org.jboss.executor.uncaught"), null);
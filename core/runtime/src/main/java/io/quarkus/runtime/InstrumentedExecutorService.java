@@ -0,0 +1,174 @@
+package io.quarkus.runtime;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * An executor that wraps the core thread pool and collects the data needed to size it: the number of submitted,
+ * rejected, active and completed tasks and the time each task waited before it started to run.
+ * <p>
+ * The task counters are always updated. The queue wait recorder is no-op until the metrics are registered in a
+ * metrics factory.
+ */
+final class InstrumentedExecutorService extends AbstractExecutorService {
+
+    private static final TimeRecorder NOOP = (amount, unit) -> {
+    };
+
+    private final ExecutorService delegate;
+    private final EnhancedQueueExecutor pool;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder active = new LongAdder();
+    private volatile TimeRecorder queueWaitRecorder = NOOP;
+
+    /**
+     *
+     * @param delegate The executor that runs the tasks
+     * @param pool The underlying thread pool, or null if the tasks do not run on an {@link EnhancedQueueExecutor}
+     */
+    InstrumentedExecutorService(ExecutorService delegate, EnhancedQueueExecutor pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.increment();
+        try {
+            delegate.execute(new TimedTask(command, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     *
+     * @return the number of tasks submitted to the executor
+     */
+    long getSubmittedTaskCount() {
+        return submitted.sum();
+    }
+
+    /**
+     *
+     * @return the number of tasks that were rejected because the executor was saturated or shut down
+     */
+    long getRejectedTaskCount() {
+        return rejected.sum();
+    }
+
+    /**
+     *
+     * @return the number of tasks that have finished running, successfully or not
+     */
+    long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    /**
+     *
+     * @return the number of tasks that are currently running
+     */
+    long getActiveCount() {
+        return active.sum();
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        if (pool != null) {
+            metricsFactory.builder("thread-pool.queue.size")
+                    .description("The number of tasks waiting in the queue of the core thread pool")
+                    .buildGauge(pool, EnhancedQueueExecutor::getQueueSize);
+            metricsFactory.builder("thread-pool.pool.size")
+                    .description("The current number of threads of the core thread pool")
+                    .buildGauge(pool, EnhancedQueueExecutor::getPoolSize);
+            metricsFactory.builder("thread-pool.pool.core-size")
+                    .description("The number of threads the core thread pool keeps alive")
+                    .buildGauge(pool, EnhancedQueueExecutor::getCorePoolSize);
+            metricsFactory.builder("thread-pool.pool.max-size")
+                    .description("The maximum number of threads of the core thread pool")
+                    .buildGauge(pool, EnhancedQueueExecutor::getMaximumPoolSize);
+        }
+        metricsFactory.builder("thread-pool.active.threads")
+                .description("The number of threads of the core thread pool that are running a task")
+                .buildGauge(this, InstrumentedExecutorService::getActiveCount);
+        metricsFactory.builder("thread-pool.tasks.submitted")
+                .description("The number of tasks submitted to the core thread pool")
+                .buildCounter(this, InstrumentedExecutorService::getSubmittedTaskCount);
+        metricsFactory.builder("thread-pool.tasks.completed")
+                .description("The number of tasks run by the core thread pool")
+                .buildCounter(this, InstrumentedExecutorService::getCompletedTaskCount);
+        metricsFactory.builder("thread-pool.tasks.rejected")
+                .description("The number of tasks rejected by the core thread pool")
+                .buildCounter(this, InstrumentedExecutorService::getRejectedTaskCount);
+        queueWaitRecorder = metricsFactory.builder("thread-pool.queue.wait")
+                .description("The time a task waited between its submission to the core thread pool and the start "
+                        + "of its execution")
+                .unit("nanoseconds")
+                .buildTimer();
+    }
+
+    private final class TimedTask implements Runnable {
+
+        private final Runnable task;
+        private final long submitNanos;
+
+        TimedTask(Runnable task, long submitNanos) {
+            this.task = task;
+            this.submitNanos = submitNanos;
+        }
+
+        @Override
+        public void run() {
+            queueWaitRecorder.update(System.nanoTime() - submitNanos, TimeUnit.NANOSECONDS);
+            active.increment();
+            try {
+                task.run();
+            } finally {
+                active.decrement();
+                completed.increment();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
@@ -15,6 +15,16 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 public class ThreadPoolConfig {
 
+    /**
+     * The execution mode of the thread pool.
+     *
+     * If this is {@code virtual} each blocking task runs on a new virtual thread instead of a pooled platform thread.
+     * This requires a JVM that supports virtual threads, otherwise the pooled mode is used. When virtual threads are
+     * used the pool sizing options of this group are ignored.
+     */
+    @ConfigItem(defaultValue = "pooled")
+    public Mode mode;
+
     /**
      * The core thread pool size. This number of threads will always be kept alive.
      */
@@ -84,4 +94,23 @@ public class ThreadPoolConfig {
     @ConfigItem(defaultValue = "30")
     public Duration keepAliveTime;
 
+    /**
+     * Whether or not the thread pool metrics are published in case a metrics extension is present.
+     *
+     * The metrics include the queue size, the number of active threads, the number of rejected tasks and the time
+     * a task waited in the queue before it started to run.
+     */
+    @ConfigItem(name = "metrics.enabled")
+    public boolean metricsEnabled;
+
+    public enum Mode {
+        /**
+         * Blocking tasks run on a pool of platform threads.
+         */
+        POOLED,
+        /**
+         * Each blocking task runs on a new virtual thread.
+         */
+        VIRTUAL
+    }
 }
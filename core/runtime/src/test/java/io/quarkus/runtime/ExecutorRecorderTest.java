@@ -0,0 +1,116 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+public class ExecutorRecorderTest {
+
+    @Test
+    public void testVirtualModeFallback() throws Exception {
+        Assumptions.assumeFalse(virtualThreadsSupported(), "Virtual threads are supported by this JVM");
+        List<String> warnings = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+                    warnings.add(record.getMessage());
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        List<Runnable> shutdownTasks = new ArrayList<>();
+        Logger logger = Logger.getLogger("io.quarkus.thread-pool");
+        logger.addHandler(handler);
+        ExecutorService executor;
+        try {
+            executor = new ExecutorRecorder().setupRunTime(shutdownContext(shutdownTasks),
+                    config(ThreadPoolConfig.Mode.VIRTUAL), LaunchMode.NORMAL);
+        } finally {
+            logger.removeHandler(handler);
+        }
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).startsWith("Virtual threads are not supported"), warnings.get(0));
+
+        // The pooled executor is used instead
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(threadName.startsWith("executor-thread-"), threadName);
+        assertEquals(1, shutdownTasks.size());
+        shutdownTasks.get(0).run();
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void testVirtualMode() throws Exception {
+        Assumptions.assumeTrue(virtualThreadsSupported(), "Virtual threads are not supported by this JVM");
+        List<Runnable> shutdownTasks = new ArrayList<>();
+        ExecutorService executor = new ExecutorRecorder().setupRunTime(shutdownContext(shutdownTasks),
+                config(ThreadPoolConfig.Mode.VIRTUAL), LaunchMode.NORMAL);
+
+        Boolean virtual = executor.submit(() -> (Boolean) Thread.class.getMethod("isVirtual")
+                .invoke(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+        assertTrue(virtual);
+        assertEquals(1, shutdownTasks.size());
+        shutdownTasks.get(0).run();
+        assertTrue(executor.isShutdown());
+    }
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (Exception e) {
+            //not supported, or a preview feature that is not enabled
+            return false;
+        }
+    }
+
+    private static ShutdownContext shutdownContext(List<Runnable> tasks) {
+        return new ShutdownContext() {
+            @Override
+            public void addShutdownTask(Runnable runnable) {
+                tasks.add(runnable);
+            }
+
+            @Override
+            public void addLastShutdownTask(Runnable runnable) {
+                tasks.add(runnable);
+            }
+        };
+    }
+
+    private static ThreadPoolConfig config(ThreadPoolConfig.Mode mode) {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.mode = mode;
+        config.coreThreads = 1;
+        config.prefill = false;
+        config.maxThreads = OptionalInt.empty();
+        config.queueSize = OptionalInt.empty();
+        config.shutdownTimeout = Duration.ofSeconds(5);
+        config.shutdownInterrupt = Duration.ofSeconds(1);
+        config.shutdownCheckInterval = Optional.empty();
+        config.keepAliveTime = Duration.ofSeconds(30);
+        return config;
+    }
+}
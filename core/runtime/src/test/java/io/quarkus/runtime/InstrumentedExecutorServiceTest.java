@@ -0,0 +1,47 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedExecutorServiceTest {
+
+    @Test
+    public void testTaskCounters() throws Exception {
+        ExecutorService delegate = Executors.newSingleThreadExecutor();
+        InstrumentedExecutorService executor = new InstrumentedExecutorService(delegate, null);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getActiveCount());
+        assertEquals(0, executor.getCompletedTaskCount());
+
+        release.countDown();
+        assertEquals("done", executor.submit(() -> "done").get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, executor.getSubmittedTaskCount());
+        assertEquals(0, executor.getActiveCount());
+        assertEquals(2, executor.getCompletedTaskCount());
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        assertEquals(1, executor.getRejectedTaskCount());
+    }
+}
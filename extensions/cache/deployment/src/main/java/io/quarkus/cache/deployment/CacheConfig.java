@@ -20,6 +20,13 @@ public class CacheConfig {
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
 
+    /**
+     * Whether or not cache metrics are published if a metrics extension is enabled. Enabling the metrics also enables the
+     * statistics recording for all caches.
+     */
+    @ConfigItem(name = "metrics.enabled")
+    boolean metricsEnabled;
+
     /**
      * Caffeine configuration.
      */
@@ -54,6 +61,16 @@ public class CacheConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum weight of the entries the cache may contain. The weight of an entry is computed by the
+             * {@code io.quarkus.cache.CacheWeigher} bean qualified with {@code @Named("cache-name")} or, if there's no such
+             * bean, estimated from the size in bytes of the cached value. Like the maximum size, the cache <b>may evict an
+             * entry before this limit is exceeded or temporarily exceed the threshold while evicting</b>. This property cannot
+             * be combined with {@code maximum-size}.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -67,6 +84,22 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be automatically refreshed once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The refresh is triggered by the first read of the entry
+             * after that duration: it is performed in the background while the stale value keeps being returned to all callers
+             * until the refresh completes. This delay should be shorter than {@code expire-after-write} to be useful.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not the cache statistics (hits, misses, loads, evictions and lock timeouts) should be recorded.
+             * Recording the statistics has a small performance cost on every cache operation.
+             */
+            @ConfigItem
+            boolean recordStats;
         }
     }
 }
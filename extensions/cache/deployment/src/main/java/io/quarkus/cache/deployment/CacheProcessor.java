@@ -22,21 +22,27 @@ import org.jboss.jandex.MethodInfo;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheMetricsRecorder;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 
 class CacheProcessor {
 
@@ -58,6 +64,11 @@ class CacheProcessor {
                 new AdditionalBeanBuildItem(CacheResultInterceptor.class));
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremovableBeans() {
+        return UnremovableBeanBuildItem.beanTypes(CacheWeigher.class);
+    }
+
     @BuildStep
     ValidationErrorBuildItem validateBeanDeployment(ValidationPhaseBuildItem validationPhase) {
         AnnotationStore annotationStore = validationPhase.getContext().get(Key.ANNOTATION_STORE);
@@ -77,8 +88,10 @@ class CacheProcessor {
     @BuildStep
     @Record(RUNTIME_INIT)
     void recordCachesBuild(CombinedIndexBuildItem combinedIndex, BeanContainerBuildItem beanContainer, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder,
-            List<AdditionalCacheNameBuildItem> additionalCacheNames) {
+            CaffeineCacheBuildRecorder caffeineRecorder, CaffeineCacheMetricsRecorder caffeineMetricsRecorder,
+            List<AdditionalCacheNameBuildItem> additionalCacheNames,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
         Set<String> cacheNames = getCacheNames(combinedIndex.getIndex());
         for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
             cacheNames.add(additionalCacheName.getName());
@@ -87,6 +100,14 @@ class CacheProcessor {
             case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
                 Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
                 caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos);
+                Set<String> cacheClassNames = CaffeineCacheInfoBuilder.getCacheClassNames(cacheInfos);
+                if (!cacheClassNames.isEmpty()) {
+                    reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, cacheClassNames.toArray(new String[0])));
+                }
+                // The metrics consumer is produced here to make sure it is invoked after the caches are built.
+                if (config.metricsEnabled) {
+                    metrics.produce(new MetricsFactoryConsumerBuildItem(caffeineMetricsRecorder.registerMetrics()));
+                }
                 break;
             default:
                 throw new DeploymentException("Unknown cache type: " + config.type);
@@ -1,27 +1,71 @@
 package io.quarkus.cache.deployment;
 
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.spi.DeploymentException;
+
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 
 public class CaffeineCacheInfoBuilder {
 
+    private static final String CAFFEINE_PACKAGE = "com.github.benmanes.caffeine.cache.";
+
     public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
         return cacheNames.stream().map(cacheName -> {
             CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
             cacheInfo.name = cacheName;
+            cacheInfo.recordStats = cacheConfig.metricsEnabled;
 
             CaffeineNamespaceConfig namespaceConfig = cacheConfig.caffeine.namespace.get(cacheInfo.name);
             if (namespaceConfig != null) {
                 namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                 namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                namespaceConfig.maximumWeight.ifPresent(weight -> cacheInfo.maximumWeight = weight);
+                if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                    throw new DeploymentException("The maximum-size and maximum-weight properties cannot be both set for cache: "
+                            + cacheInfo.name);
+                }
                 namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                 namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                if (namespaceConfig.recordStats) {
+                    cacheInfo.recordStats = true;
+                }
             }
 
             return cacheInfo;
         }).collect(Collectors.toSet());
     }
+
+    /**
+     * Returns the names of the Caffeine generated cache and node classes which will be instantiated reflectively for the given
+     * caches. These names are derived from the caches features the same way as Caffeine does, unbounded caches don't need any
+     * generated class.
+     */
+    public static Set<String> getCacheClassNames(Set<CaffeineCacheInfo> cacheInfos) {
+        Set<String> classNames = new HashSet<>();
+        for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+            boolean evicts = cacheInfo.maximumSize != null || cacheInfo.maximumWeight != null;
+            if (!evicts && cacheInfo.expireAfterAccess == null && cacheInfo.expireAfterWrite == null) {
+                continue;
+            }
+            StringBuilder expiration = new StringBuilder();
+            if (cacheInfo.expireAfterAccess != null) {
+                expiration.append('A');
+            }
+            if (cacheInfo.expireAfterWrite != null) {
+                expiration.append('W');
+            }
+            String eviction = evicts ? (cacheInfo.maximumWeight != null ? "MW" : "MS") : "";
+
+            // Cache class: strong keys, strong values, stats, eviction and then expiration.
+            classNames.add(CAFFEINE_PACKAGE + "SS" + (cacheInfo.recordStats ? "S" : "") + eviction + expiration);
+            // Node class: strong keys, strong values, expiration and then eviction.
+            classNames.add(CAFFEINE_PACKAGE + "PS" + expiration + eviction);
+        }
+        return classNames;
+    }
 }
@@ -27,6 +27,12 @@ public class CacheKeyBuilderTest {
         assertThrows(NullPointerException.class, () -> {
             CacheKeyBuilder.build(Collections.singletonList(null));
         }, CacheKeyBuilder.NULL_KEYS_NOT_SUPPORTED_MSG);
+        assertThrows(NullPointerException.class, () -> {
+            CacheKeyBuilder.buildSimple(null);
+        }, CacheKeyBuilder.NULL_KEYS_NOT_SUPPORTED_MSG);
+        assertThrows(IllegalArgumentException.class, () -> {
+            CacheKeyBuilder.buildComposite(new Object[] { "quarkus" });
+        });
     }
 
     @Test
@@ -74,4 +80,20 @@ public class CacheKeyBuilderTest {
         Object compositeKey7 = CacheKeyBuilder.build(Arrays.asList(keyElement1, keyElement2, new BigDecimal(10)));
         assertNotEquals(compositeKey2, compositeKey7);
     }
+
+    @Test
+    public void testCompositeKeyFromArray() {
+        String keyElement1 = "quarkus";
+        long keyElement2 = 123L;
+
+        // Composite cache keys built from a list or from an array of the same elements should be equal.
+        Object compositeKey1 = CacheKeyBuilder.build(Arrays.asList(keyElement1, keyElement2));
+        Object compositeKey2 = CacheKeyBuilder.buildComposite(new Object[] { keyElement1, keyElement2 });
+        assertEquals(compositeKey1, compositeKey2);
+        assertEquals(compositeKey1.hashCode(), compositeKey2.hashCode());
+
+        // Composite cache keys built from arrays of elements in a different order should not be equal.
+        Object compositeKey3 = CacheKeyBuilder.buildComposite(new Object[] { keyElement2, keyElement1 });
+        assertNotEquals(compositeKey2, compositeKey3);
+    }
 }
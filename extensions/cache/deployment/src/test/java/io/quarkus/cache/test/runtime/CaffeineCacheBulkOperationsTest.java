@@ -0,0 +1,104 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CaffeineCacheBulkOperationsTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testBulkOperations() throws InterruptedException, ExecutionException {
+        CaffeineCache cache = cacheRepository.getCache(CACHE_NAME);
+
+        // STEP 1
+        // Action: value cached from a @CacheResult-annotated method call.
+        // Expected effect: that key is not passed to the bulk loader in STEP 2.
+        String value1 = cachedService.cachedMethod("one");
+
+        // STEP 2
+        // Action: bulk load of three keys, one of them being already cached.
+        // Expected effect: the bulk loader is invoked once with the two missing keys only, null values are supported.
+        // Verified by: the keys received by the bulk loader and the returned map.
+        List<Set<Object>> loadedKeys = new ArrayList<>();
+        Map<Object, Object> values = cache.getAll(Arrays.asList("one", "two", "three"), missingKeys -> {
+            loadedKeys.add(missingKeys);
+            Map<Object, Object> result = new HashMap<>();
+            result.put("two", "2");
+            result.put("three", null);
+            return result;
+        });
+        assertEquals(1, loadedKeys.size());
+        assertEquals(2, loadedKeys.get(0).size());
+        assertTrue(loadedKeys.get(0).containsAll(Arrays.asList("two", "three")));
+        assertTrue(value1 == values.get("one"));
+        assertEquals("2", values.get("two"));
+        assertTrue(values.containsKey("three"));
+        assertNull(values.get("three"));
+
+        // STEP 3
+        // Action: asynchronous bulk load of the same keys.
+        // Expected effect: all values come from the cache, the bulk loader is not invoked.
+        Map<Object, Object> asyncValues = cache.getAllAsync(Arrays.asList("one", "two", "three"), missingKeys -> {
+            loadedKeys.add(missingKeys);
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }).get();
+        assertEquals(1, loadedKeys.size());
+        assertEquals(values, asyncValues);
+
+        // STEP 4
+        // Action: invalidation of all keys starting with "t".
+        // Expected effect: only the "one" entry remains in the cache.
+        // Verified by: the keys received by the bulk loader.
+        cache.invalidateIf(key -> key.toString().startsWith("t"));
+        cache.getAll(Arrays.asList("one", "two", "three"), missingKeys -> {
+            loadedKeys.add(missingKeys);
+            return new HashMap<>();
+        });
+        assertEquals(2, loadedKeys.size());
+        assertEquals(2, loadedKeys.get(1).size());
+        assertTrue(loadedKeys.get(1).containsAll(Arrays.asList("two", "three")));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return new String(key);
+        }
+    }
+}
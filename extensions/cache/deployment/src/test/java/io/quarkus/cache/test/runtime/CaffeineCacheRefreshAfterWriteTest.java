@@ -0,0 +1,88 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CaffeineCacheRefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=PT0.5S"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: invocations counter.
+        assertEquals(1, cachedService.cachedMethod("foo"));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 after the refreshAfterWrite delay.
+        // Expected effect: stale value returned and method invoked in the background.
+        // Verified by: returned value and invocations counter.
+        Thread.sleep(600L);
+        assertEquals(1, cachedService.cachedMethod("foo"));
+        awaitInvocations(2);
+
+        // STEP 3
+        // Action: same call as STEP 2 once the refresh is done.
+        // Expected effect: refreshed value returned from the cache.
+        // Verified by: returned value and invocations counter.
+        awaitValue(2);
+        assertEquals(2, cachedService.getInvocations());
+    }
+
+    private void awaitInvocations(int expected) throws InterruptedException {
+        long end = System.currentTimeMillis() + 5000L;
+        while (cachedService.getInvocations() < expected && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, cachedService.getInvocations());
+    }
+
+    private void awaitValue(int expected) throws InterruptedException {
+        // The refreshed value is stored right after the method returns
+        long end = System.currentTimeMillis() + 5000L;
+        while (cachedService.cachedMethod("foo") != expected && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, cachedService.cachedMethod("foo"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public int cachedMethod(String key) {
+            return invocations.incrementAndGet();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
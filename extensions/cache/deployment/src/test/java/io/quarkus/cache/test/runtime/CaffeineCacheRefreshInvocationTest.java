@@ -0,0 +1,191 @@
+package io.quarkus.cache.test.runtime;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheStats;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the refresh of a stale entry runs in the background with the request context of the invocation which read it.
+ */
+public class CaffeineCacheRefreshInvocationTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String ASYNC_CACHE_NAME = "async-test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=PT0.5S\n"
+                    + "quarkus.cache.caffeine.\"" + CACHE_NAME + "\".record-stats=true\n"
+                    + "quarkus.cache.caffeine.\"" + ASYNC_CACHE_NAME + "\".refresh-after-write=PT0.5S"),
+                    "application.properties")
+            .addClasses(CachedService.class, RequestData.class, Counted.class, CountingInterceptor.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RequestData requestData;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testRefreshInRequestContext() throws InterruptedException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            // STEP 1
+            // Action: @CacheResult-annotated method call.
+            // Expected effect: method invoked and result cached.
+            // Verified by: returned value.
+            requestData.setValue("foo");
+            assertEquals("foo", cachedService.cachedMethod("key"));
+
+            // STEP 2
+            // Action: same call as STEP 1 after the refreshAfterWrite delay.
+            // Expected effect: stale value returned and method invoked in the background within the request context.
+            // Verified by: returned value.
+            Thread.sleep(600L);
+            requestData.setValue("bar");
+            assertEquals("foo", cachedService.cachedMethod("key"));
+
+            // STEP 3
+            // Action: same call as STEP 2 once the refresh is done.
+            // Expected effect: refreshed value returned from the cache.
+            // Verified by: returned value.
+            long end = System.currentTimeMillis() + 5000L;
+            while (!"bar".equals(cachedService.cachedMethod("key")) && System.currentTimeMillis() < end) {
+                Thread.sleep(10L);
+            }
+            assertEquals("bar", cachedService.cachedMethod("key"));
+        } finally {
+            requestContext.terminate();
+        }
+
+        // The interceptors invoked after the cache interceptor ran once per load, within the request context.
+        assertEquals(2, CountingInterceptor.INVOCATIONS.get());
+        assertTrue(CountingInterceptor.requestContextAlwaysActive);
+
+        // The refresh is recorded as a load.
+        CaffeineCacheStats stats = cacheRepository.getStats(CACHE_NAME);
+        assertEquals(2L, stats.getLoadSuccessCount());
+        assertEquals(0L, stats.getLoadFailureCount());
+    }
+
+    @Test
+    public void testAsyncRefresh() throws Exception {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: returned value and invocations counter.
+        assertEquals(1, cachedService.asyncCachedMethod("key").toCompletableFuture().get());
+        assertEquals(1, cachedService.getAsyncInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 after the refreshAfterWrite delay.
+        // Expected effect: stale value returned and method invoked by this call.
+        // Verified by: returned value and invocations counter.
+        Thread.sleep(600L);
+        assertEquals(1, cachedService.asyncCachedMethod("key").toCompletableFuture().get());
+        assertEquals(2, cachedService.getAsyncInvocations());
+
+        // STEP 3
+        // Action: same call as STEP 2.
+        // Expected effect: refreshed value returned from the cache.
+        // Verified by: returned value and invocations counter.
+        assertEquals(2, cachedService.asyncCachedMethod("key").toCompletableFuture().get());
+        assertEquals(2, cachedService.getAsyncInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger asyncInvocations = new AtomicInteger();
+
+        @Inject
+        RequestData requestData;
+
+        @Counted
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return requestData.getValue();
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME)
+        public CompletionStage<Integer> asyncCachedMethod(String key) {
+            return CompletableFuture.completedFuture(asyncInvocations.incrementAndGet());
+        }
+
+        public int getAsyncInvocations() {
+            return asyncInvocations.get();
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Counted {
+    }
+
+    @Counted
+    @Priority(Interceptor.Priority.APPLICATION)
+    @Interceptor
+    public static class CountingInterceptor {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+        static volatile boolean requestContextAlwaysActive = true;
+
+        @AroundInvoke
+        Object intercept(InvocationContext context) throws Exception {
+            INVOCATIONS.incrementAndGet();
+            if (!Arc.container().requestContext().isActive()) {
+                requestContextAlwaysActive = false;
+            }
+            return context.proceed();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheStats;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CaffeineCacheStatsTest {
+
+    private static final String STATS_CACHE_NAME = "stats-cache";
+    private static final String NO_STATS_CACHE_NAME = "no-stats-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + STATS_CACHE_NAME + "\".record-stats=true"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testStats() {
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("bar");
+
+        CaffeineCacheStats stats = cacheRepository.getStats(STATS_CACHE_NAME);
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(2L, stats.getMissCount());
+        assertEquals(2L, stats.getLoadSuccessCount());
+        assertEquals(0L, stats.getLockTimeoutCount());
+
+        cachedService.notRecordingStatsMethod("foo");
+        cachedService.notRecordingStatsMethod("foo");
+
+        assertFalse(cacheRepository.getCache(NO_STATS_CACHE_NAME).isRecordingStats());
+        CaffeineCacheStats noStats = cacheRepository.getStats(NO_STATS_CACHE_NAME);
+        assertEquals(0L, noStats.getHitCount());
+        assertEquals(0L, noStats.getMissCount());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = STATS_CACHE_NAME)
+        public String cachedMethod(String key) {
+            return new String(key);
+        }
+
+        @CacheResult(cacheName = NO_STATS_CACHE_NAME)
+        public String notRecordingStatsMethod(String key) {
+            return new String(key);
+        }
+    }
+}
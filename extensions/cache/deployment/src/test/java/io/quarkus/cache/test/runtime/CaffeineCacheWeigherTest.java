@@ -0,0 +1,85 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.EstimatedSizeWeigher;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CaffeineCacheWeigherTest {
+
+    private static final String CUSTOM_WEIGHER_CACHE_NAME = "custom-weigher-cache";
+    private static final String DEFAULT_WEIGHER_CACHE_NAME = "default-weigher-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE_NAME + "\".maximum-weight=10\n"
+                    + "quarkus.cache.caffeine.\"" + DEFAULT_WEIGHER_CACHE_NAME + "\".maximum-weight=100000"),
+                    "application.properties")
+            .addClasses(CachedService.class, LengthWeigher.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testWeighers() throws InterruptedException {
+        CaffeineCache customWeigherCache = cacheRepository.getCache(CUSTOM_WEIGHER_CACHE_NAME);
+        assertEquals(10L, customWeigherCache.getMaximumWeight());
+        assertTrue(customWeigherCache.getWeigher() instanceof LengthWeigher);
+
+        CaffeineCache defaultWeigherCache = cacheRepository.getCache(DEFAULT_WEIGHER_CACHE_NAME);
+        assertEquals(100000L, defaultWeigherCache.getMaximumWeight());
+        assertTrue(defaultWeigherCache.getWeigher() instanceof EstimatedSizeWeigher);
+
+        // Each value weighs 4 with the custom weigher so the cache can't hold more than 2 of them.
+        for (int i = 0; i < 10; i++) {
+            cachedService.cachedMethod(String.valueOf(1000 + i));
+        }
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (customWeigherCache.getEstimatedSize() > 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertTrue(customWeigherCache.getEstimatedSize() <= 2);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = CUSTOM_WEIGHER_CACHE_NAME)
+        public String cachedMethod(String key) {
+            return key;
+        }
+
+        @CacheResult(cacheName = DEFAULT_WEIGHER_CACHE_NAME)
+        public String otherCachedMethod(String key) {
+            return key;
+        }
+    }
+
+    @ApplicationScoped
+    @Named(CUSTOM_WEIGHER_CACHE_NAME)
+    static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return value.toString().length();
+        }
+    }
+}
@@ -23,6 +23,10 @@ import javax.enterprise.util.Nonbinding;
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If the method returns a {@code Uni} or a {@link java.util.concurrent.CompletionStage CompletionStage}, the resolved item
+ * or value is cached rather than the {@code Uni} or {@code CompletionStage} itself. Such methods never block the calling thread
+ * on a cache miss and the {@code lockTimeout} parameter is ignored for them.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
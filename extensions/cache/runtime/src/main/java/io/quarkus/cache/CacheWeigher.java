@@ -0,0 +1,23 @@
+package io.quarkus.cache;
+
+/**
+ * Calculates the weights of the entries of a cache configured with a {@code maximum-weight}. The weight of an entry is
+ * computed once when the entry is stored in the cache and is never updated afterwards.
+ * <p>
+ * A CDI bean implementing this interface and qualified with {@link javax.inject.Named @Named("cache-name")} is used for the
+ * cache with the same name. If there's no such bean, the weight of an entry is an estimation of the size in bytes of its
+ * value.
+ */
+@FunctionalInterface
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. There is no unit for entry weights, they are only compared with the
+     * {@code maximum-weight} of the cache.
+     * 
+     * @param key cache key
+     * @param value cached value, which may be {@code null}
+     * @return non-negative weight of the entry
+     */
+    int weigh(Object key, Object value);
+}
@@ -2,7 +2,6 @@ package io.quarkus.cache.runtime;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -37,19 +36,23 @@ public abstract class CacheInterceptor {
         // If the method doesn't have any parameter, then a unique default key is generated and used.
         if (methodParameterValues.length == 0) {
             return CacheKeyBuilder.buildDefault(cacheName);
-        } else {
-            List<Object> keyElements = new ArrayList<>();
+        } else if (cacheKeyParameterPositions.length > 0) {
             // If at least one of the method parameters is annotated with @CacheKey, then the key is composed of all
             // @CacheKey-annotated parameters that were identified at build time.
-            if (cacheKeyParameterPositions.length > 0) {
-                for (int i = 0; i < cacheKeyParameterPositions.length; i++) {
-                    keyElements.add(methodParameterValues[cacheKeyParameterPositions[i]]);
-                }
-            } else {
-                // Otherwise, the key is composed of all of the method parameters.
-                keyElements.addAll(Arrays.asList(methodParameterValues));
+            if (cacheKeyParameterPositions.length == 1) {
+                return CacheKeyBuilder.buildSimple(methodParameterValues[cacheKeyParameterPositions[0]]);
+            }
+            Object[] keyElements = new Object[cacheKeyParameterPositions.length];
+            for (int i = 0; i < cacheKeyParameterPositions.length; i++) {
+                keyElements[i] = methodParameterValues[cacheKeyParameterPositions[i]];
             }
-            return CacheKeyBuilder.build(keyElements);
+            return CacheKeyBuilder.buildComposite(keyElements);
+        } else if (methodParameterValues.length == 1) {
+            // Otherwise, the key is composed of all of the method parameters.
+            return CacheKeyBuilder.buildSimple(methodParameterValues[0]);
+        } else {
+            // The parameters array is copied because it could be modified by an interceptor invoked later in the chain.
+            return CacheKeyBuilder.buildComposite(methodParameterValues.clone());
         }
     }
 }
@@ -30,15 +30,39 @@ public class CacheKeyBuilder {
         if (keyElements == null || keyElements.isEmpty()) {
             throw new IllegalArgumentException("At least one key element is required to build a cache key");
         } else if (keyElements.size() == 1) {
-            if (keyElements.get(0) == null) {
-                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
-            }
-            return keyElements.get(0);
+            return buildSimple(keyElements.get(0));
         } else {
-            return new CompositeCacheKey(keyElements);
+            return new CompositeCacheKey(keyElements.toArray(new Object[0]));
         }
     }
 
+    /**
+     * Builds a cache key from a single key element. The key element must be non-null and is returned as is.
+     * 
+     * @param keyElement key element
+     * @return cache key
+     */
+    public static Object buildSimple(Object keyElement) {
+        if (keyElement == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return keyElement;
+    }
+
+    /**
+     * Builds a composite cache key from an array of key elements. The array must contain at least two key elements and is
+     * used as is, without any copy. It must therefore never be modified once this method has been called.
+     * 
+     * @param keyElements key elements
+     * @return cache key
+     */
+    public static Object buildComposite(Object[] keyElements) {
+        if (keyElements == null || keyElements.length < 2) {
+            throw new IllegalArgumentException("At least two key elements are required to build a composite cache key");
+        }
+        return new CompositeCacheKey(keyElements);
+    }
+
     private static class DefaultCacheKey {
 
         private final String cacheName;
@@ -69,13 +93,17 @@ public class CacheKeyBuilder {
 
         private final Object[] keyElements;
 
-        public CompositeCacheKey(List<Object> keyElements) {
-            this.keyElements = keyElements.toArray(new Object[0]);
+        // The hash code is computed once since the key is looked up at least once and often several times in the cache.
+        private final int hashCode;
+
+        public CompositeCacheKey(Object[] keyElements) {
+            this.keyElements = keyElements;
+            this.hashCode = Arrays.deepHashCode(keyElements);
         }
 
         @Override
         public int hashCode() {
-            return Arrays.deepHashCode(keyElements);
+            return hashCode;
         }
 
         @Override
@@ -85,7 +113,7 @@ public class CacheKeyBuilder {
             }
             if (CompositeCacheKey.class.isInstance(obj)) {
                 final CompositeCacheKey other = (CompositeCacheKey) obj;
-                return Arrays.deepEquals(keyElements, other.keyElements);
+                return hashCode == other.hashCode && Arrays.deepEquals(keyElements, other.keyElements);
             }
             return false;
         }
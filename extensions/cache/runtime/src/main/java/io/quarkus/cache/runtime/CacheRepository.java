@@ -1,11 +1,13 @@
 package io.quarkus.cache.runtime;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
 
 import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheStats;
 
 @ApplicationScoped
 public class CacheRepository {
@@ -23,4 +25,20 @@ public class CacheRepository {
     public CaffeineCache getCache(String cacheName) {
         return caches.get(cacheName);
     }
+
+    public Collection<CaffeineCache> getCaches() {
+        return caches.values();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the given cache. All values are {@code 0} if the statistics recording is
+     * disabled for that cache.
+     * 
+     * @param cacheName cache name
+     * @return cache statistics snapshot or {@code null} if there's no cache with the given name
+     */
+    public CaffeineCacheStats getStats(String cacheName) {
+        CaffeineCache cache = caches.get(cacheName);
+        return cache == null ? null : cache.getStats();
+    }
 }
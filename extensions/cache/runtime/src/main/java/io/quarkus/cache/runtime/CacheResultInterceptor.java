@@ -1,5 +1,8 @@
 package io.quarkus.cache.runtime;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -8,6 +11,7 @@ import javax.interceptor.InvocationContext;
 import org.jboss.logging.Logger;
 
 import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.smallrye.mutiny.Uni;
 
 @CacheResultInterceptorBinding
 @Interceptor
@@ -24,6 +28,29 @@ public class CacheResultInterceptor extends CacheInterceptor {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
         }
-        return cache.get(key, () -> context.proceed(), binding.lockTimeout());
+        Class<?> returnType = context.getMethod().getReturnType();
+        if (Uni.class.isAssignableFrom(returnType)) {
+            // The cache lookup is deferred until the Uni is subscribed and the resolved item is cached instead of the Uni.
+            return Uni.createFrom().completionStage(() -> cache.getAsync(key, k -> {
+                Uni<Object> uni = proceed(context);
+                return uni.subscribeAsCompletionStage();
+            }));
+        } else if (CompletionStage.class.isAssignableFrom(returnType)) {
+            // The value the stage is completed with is cached instead of the stage itself.
+            return cache.getAsync(key, k -> proceed(context));
+        } else {
+            return cache.get(key, () -> context.proceed(), binding.lockTimeout());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proceed(InvocationContext context) {
+        try {
+            return (T) context.proceed();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
     }
 }
@@ -4,32 +4,80 @@ import static io.quarkus.cache.runtime.NullValueConverter.fromCacheValue;
 import static io.quarkus.cache.runtime.NullValueConverter.toCacheValue;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheWeigher;
 
 public class CaffeineCache {
 
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
+
     private AsyncCache<Object, Object> cache;
 
     private String name;
 
+    // Used to reload the stale entries of the synchronous methods.
+    private Executor executor;
+
     private Integer initialCapacity;
 
     private Long maximumSize;
 
+    private Long maximumWeight;
+
+    private CacheWeigher weigher;
+
     private Duration expireAfterWrite;
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    // Used to compare the entries ages with the refreshAfterWrite delay without converting the Duration on each read.
+    private long refreshAfterWriteNanos;
+
+    // Keys which are currently being refreshed, used to make sure only one refresh per key is running at any time.
+    private Set<Object> refreshingKeys;
+
+    private CaffeineCacheStatsCounter statsCounter;
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo, Executor executor) {
+        this(cacheInfo, executor, null);
+    }
+
+    /**
+     * @param cacheInfo cache configuration
+     * @param executor executor used for the asynchronous computations, or {@code null} to use the Caffeine default one
+     * @param weigher weigher used if the cache is configured with a maximum weight, or {@code null} to estimate the entries
+     *        weights from their values sizes
+     */
+    public CaffeineCache(CaffeineCacheInfo cacheInfo, Executor executor, CacheWeigher weigher) {
         this.name = cacheInfo.name;
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (executor != null) {
             builder.executor(executor);
@@ -42,6 +90,14 @@ public class CaffeineCache {
             this.maximumSize = cacheInfo.maximumSize;
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            this.maximumWeight = cacheInfo.maximumWeight;
+            this.weigher = weigher == null ? new EstimatedSizeWeigher() : weigher;
+            CacheWeigher entryWeigher = this.weigher;
+            // The weigher is given the values as returned by the cached methods, not as they are stored in the cache.
+            builder.maximumWeight(cacheInfo.maximumWeight)
+                    .weigher((key, value) -> entryWeigher.weigh(key, fromStoredValue(value)));
+        }
         if (cacheInfo.expireAfterWrite != null) {
             this.expireAfterWrite = cacheInfo.expireAfterWrite;
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
@@ -50,12 +106,31 @@ public class CaffeineCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            /*
+             * Caffeine only supports refreshAfterWrite with a LoadingCache which relies on a single CacheLoader. The values of
+             * this cache are loaded by the cached methods invocations, so the refresh is implemented here instead: the entries
+             * remember when they were written and the first read of a stale entry reloads it using the loader of that read.
+             * The stale value is returned right away. Synchronous methods are reloaded on the executor, within the request
+             * context that was active when the stale entry was read. Methods returning a CompletionStage or a Uni are
+             * invoked by the reading call and only their result is awaited in the background. The other callers keep
+             * getting the stale value until the reload completes.
+             */
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            this.refreshingKeys = ConcurrentHashMap.newKeySet();
+        }
+        if (cacheInfo.recordStats) {
+            this.statsCounter = new CaffeineCacheStatsCounter();
+            builder.recordStats(() -> statsCounter);
+        }
         cache = builder.buildAsync();
     }
 
     public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
         if (lockTimeout <= 0) {
-            return fromCacheValue(cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get()));
+            Object cacheValue = cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get());
+            return fromStoredValue(refreshIfNeeded(key, cacheValue, valueLoader));
         }
 
         // The lock timeout logic starts here.
@@ -75,21 +150,77 @@ public class CaffeineCache {
         if (isCurrentThreadComputation[0]) {
             // The value is missing and its computation was started from the current thread.
             // We'll wait for the result no matter how long it takes.
-            return fromCacheValue(future.get());
+            return fromStoredValue(future.get());
         } else {
             // The value is either already present in the cache or missing and its computation was started from another thread.
             // We want to retrieve it from the cache within the lock timeout delay.
             try {
-                return fromCacheValue(future.get(lockTimeout, TimeUnit.MILLISECONDS));
+                Object cacheValue = future.get(lockTimeout, TimeUnit.MILLISECONDS);
+                return fromStoredValue(refreshIfNeeded(key, cacheValue, valueLoader));
             } catch (TimeoutException e) {
                 // Timeout triggered! We don't want to wait any longer for the value computation and we'll simply invoke the
                 // cached method and return its result without caching it.
-                // TODO: Add statistics here to monitor the timeout.
+                if (statsCounter != null) {
+                    statsCounter.recordLockTimeout();
+                }
                 return valueLoader.call();
             }
         }
     }
 
+    /**
+     * Returns a future holding the value associated with {@code key}. If the key is missing, the value is computed from the
+     * {@link CompletionStage} returned by {@code valueLoader} and stored in the cache once that stage completes. Concurrent
+     * calls with the same missing key share the same in-flight computation. This method never blocks the calling thread, the
+     * lock timeout is therefore not applicable here.
+     * 
+     * @param key cache key
+     * @param valueLoader function returning a stage which will be completed with the value to cache
+     * @return future holding the cached value
+     */
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        CompletableFuture<Object> future = cache.get(key, (k, executor) -> loadAsync(k, valueLoader));
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            Object storedValue = future.join();
+            if (startRefresh(key, storedValue)) {
+                // The stale value is returned while the stage returned by the loader is completed.
+                long start = System.nanoTime();
+                loadAsync(key, valueLoader).whenComplete(
+                        (newValue, error) -> completeRefresh(key, storedValue, newValue, error, System.nanoTime() - start));
+            }
+        }
+        return future.thenApply(value -> fromStoredValue(value));
+    }
+
+    /**
+     * Returns the values associated with {@code keys}. All missing keys are loaded with a single {@code bulkLoader} call which
+     * receives the set of missing keys. The returned map only contains the entries that were already cached or returned by
+     * the loader, it never contains missing keys. The entries returned by this method are never refreshed, even if a
+     * {@code refreshAfterWrite} delay is configured.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function returning the values of the missing keys
+     * @return map of the cached values
+     */
+    public Map<Object, Object> getAll(Iterable<?> keys, Function<Set<Object>, Map<Object, Object>> bulkLoader) {
+        return fromStoredValues(
+                cache.synchronous().getAll(keys, missingKeys -> toStoredValues(bulkLoader.apply(toSet(missingKeys)))));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getAll(Iterable, Function)}. The missing keys are loaded from the {@link CompletionStage}
+     * returned by {@code bulkLoader}.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function returning a stage which will be completed with the values of the missing keys
+     * @return future holding the map of the cached values
+     */
+    public CompletableFuture<Map<Object, Object>> getAllAsync(Iterable<?> keys,
+            Function<Set<Object>, CompletionStage<Map<Object, Object>>> bulkLoader) {
+        return cache.getAll(keys, (missingKeys, executor) -> bulkLoader.apply(toSet(missingKeys)).toCompletableFuture()
+                .thenApply(values -> toStoredValues(values))).thenApply(values -> fromStoredValues(values));
+    }
+
     public void invalidate(Object key) {
         cache.synchronous().invalidate(key);
     }
@@ -98,10 +229,49 @@ public class CaffeineCache {
         cache.synchronous().invalidateAll();
     }
 
+    /**
+     * Removes all entries whose key matches {@code predicate}. The keys passed to the predicate are the cache keys as built
+     * from the cached methods arguments.
+     * 
+     * @param predicate keys predicate
+     */
+    public void invalidateIf(Predicate<Object> predicate) {
+        cache.synchronous().asMap().keySet().removeIf(predicate);
+    }
+
     public String getName() {
         return name;
     }
 
+    public boolean isRecordingStats() {
+        return statsCounter != null;
+    }
+
+    /**
+     * Returns a snapshot of this cache statistics. All values are {@code 0} if the statistics recording is disabled.
+     * 
+     * @return cache statistics snapshot
+     */
+    public CaffeineCacheStats getStats() {
+        if (statsCounter == null) {
+            return new CaffeineCacheStats(CacheStats.empty(), 0L);
+        }
+        return new CaffeineCacheStats(statsCounter.snapshot(), statsCounter.getLockTimeoutCount());
+    }
+
+    /**
+     * Returns the approximate number of entries in this cache.
+     * 
+     * @return estimated size
+     */
+    public long getEstimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    CaffeineCacheStatsCounter getStatsCounter() {
+        return statsCounter;
+    }
+
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -112,6 +282,16 @@ public class CaffeineCache {
         return maximumSize;
     }
 
+    // For testing purposes only.
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // For testing purposes only.
+    public CacheWeigher getWeigher() {
+        return weigher;
+    }
+
     // For testing purposes only.
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -122,7 +302,176 @@ public class CaffeineCache {
         return expireAfterAccess;
     }
 
-    private static class MappingSupplier implements Supplier<Object> {
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    private CompletableFuture<Object> loadAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        CompletionStage<Object> valueStage;
+        try {
+            valueStage = valueLoader.apply(key);
+        } catch (Throwable t) {
+            CompletableFuture<Object> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(t);
+            return failedFuture;
+        }
+        return valueStage.toCompletableFuture().thenApply(value -> toStoredValue(value));
+    }
+
+    /*
+     * Starts reloading the entry on the executor if it is older than the refreshAfterWrite delay and if no other reload is
+     * already running for the same key. The stale value is always returned: neither the calling thread nor the concurrent
+     * callers wait for the reload. If the reload fails, the stale value is kept.
+     */
+    private Object refreshIfNeeded(Object key, Object storedValue, Callable<Object> valueLoader) {
+        if (startRefresh(key, storedValue)) {
+            Runnable reload = withRequestContext(new Runnable() {
+                @Override
+                public void run() {
+                    long start = System.nanoTime();
+                    Object newValue;
+                    try {
+                        newValue = new MappingSupplier(valueLoader).get();
+                    } catch (Throwable t) {
+                        completeRefresh(key, storedValue, null, t, System.nanoTime() - start);
+                        return;
+                    }
+                    completeRefresh(key, storedValue, newValue, null, System.nanoTime() - start);
+                }
+            });
+            try {
+                executor.execute(reload);
+            } catch (RuntimeException e) {
+                // The executor rejected the reload, the next read of the stale entry will try again.
+                completeRefresh(key, storedValue, null, e, 0L);
+            }
+        }
+        return storedValue;
+    }
+
+    /*
+     * The cached methods may use request scoped beans. The reload runs after the reading invocation has returned, on another
+     * thread, so the state of the request context active during that invocation is captured and activated around the reload.
+     */
+    private static Runnable withRequestContext(Runnable task) {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return task;
+        }
+        ManagedContext requestContext = container.requestContext();
+        if (!requestContext.isActive()) {
+            return task;
+        }
+        ContextState state = requestContext.getState();
+        return new Runnable() {
+            @Override
+            public void run() {
+                if (requestContext.isActive()) {
+                    // The executor already propagated the request context.
+                    task.run();
+                    return;
+                }
+                requestContext.activate(state);
+                try {
+                    task.run();
+                } finally {
+                    requestContext.deactivate();
+                }
+            }
+        };
+    }
+
+    /*
+     * Returns true if the entry is older than the refreshAfterWrite delay and if no other reload is already running for the
+     * same key. In that case, the caller must reload the entry and then call completeRefresh.
+     */
+    private boolean startRefresh(Object key, Object storedValue) {
+        return refreshingKeys != null && storedValue instanceof RefreshableValue
+                && System.nanoTime() - ((RefreshableValue) storedValue).writeTime >= refreshAfterWriteNanos
+                && refreshingKeys.add(key);
+    }
+
+    /*
+     * The reloaded value only replaces the entry if the latter still holds the stale value, which means it was neither
+     * invalidated nor replaced while the reload was running.
+     */
+    private void completeRefresh(Object key, Object storedValue, Object newValue, Throwable error, long loadTime) {
+        try {
+            if (error != null) {
+                if (statsCounter != null) {
+                    statsCounter.recordLoadFailure(loadTime);
+                }
+                LOGGER.warnf(error, "Unable to refresh entry with key [%s] from cache [%s]", key, name);
+            } else {
+                if (statsCounter != null) {
+                    statsCounter.recordLoadSuccess(loadTime);
+                }
+                cache.asMap().computeIfPresent(key, (k, current) -> {
+                    if (current.isDone() && !current.isCompletedExceptionally() && current.join() == storedValue) {
+                        return CompletableFuture.completedFuture(newValue);
+                    }
+                    return current;
+                });
+            }
+        } finally {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private Object toStoredValue(Object value) {
+        Object cacheValue = toCacheValue(value);
+        return refreshingKeys == null ? cacheValue : new RefreshableValue(cacheValue, System.nanoTime());
+    }
+
+    private static Object fromStoredValue(Object storedValue) {
+        if (storedValue instanceof RefreshableValue) {
+            return fromCacheValue(((RefreshableValue) storedValue).value);
+        }
+        return fromCacheValue(storedValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Object> toSet(Iterable<?> keys) {
+        if (keys instanceof Set) {
+            return (Set<Object>) keys;
+        }
+        Set<Object> set = new HashSet<>();
+        for (Object key : keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    private Map<Object, Object> toStoredValues(Map<Object, Object> values) {
+        Map<Object, Object> cacheValues = new HashMap<>(values.size() * 4 / 3 + 1);
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            cacheValues.put(entry.getKey(), toStoredValue(entry.getValue()));
+        }
+        return cacheValues;
+    }
+
+    private static Map<Object, Object> fromStoredValues(Map<Object, Object> cacheValues) {
+        Map<Object, Object> values = new HashMap<>(cacheValues.size() * 4 / 3 + 1);
+        for (Map.Entry<Object, Object> entry : cacheValues.entrySet()) {
+            values.put(entry.getKey(), fromStoredValue(entry.getValue()));
+        }
+        return values;
+    }
+
+    private static class RefreshableValue {
+
+        private final Object value;
+
+        private final long writeTime;
+
+        public RefreshableValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    private class MappingSupplier implements Supplier<Object> {
 
         private final Callable<?> valueLoader;
 
@@ -133,7 +482,7 @@ public class CaffeineCache {
         @Override
         public Object get() {
             try {
-                return toCacheValue(valueLoader.call());
+                return toStoredValue(valueLoader.call());
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
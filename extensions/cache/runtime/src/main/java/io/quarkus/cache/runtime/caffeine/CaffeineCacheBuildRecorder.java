@@ -4,11 +4,15 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import javax.enterprise.inject.literal.NamedLiteral;
+
 import org.eclipse.microprofile.context.ManagedExecutor;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.runtime.CacheRepository;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -27,14 +31,21 @@ public class CaffeineCacheBuildRecorder {
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
-                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s] and [recordStats=%s]",
+                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                        cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite, cacheInfo.recordStats);
             }
-            CaffeineCache cache = new CaffeineCache(cacheInfo, managedExecutor);
+            CacheWeigher weigher = cacheInfo.maximumWeight == null ? null : getWeigher(cacheInfo.name);
+            CaffeineCache cache = new CaffeineCache(cacheInfo, managedExecutor, weigher);
             caches.put(cacheInfo.name, cache);
         }
 
         beanContainer.instance(CacheRepository.class).setCaches(caches);
     }
+
+    private CacheWeigher getWeigher(String cacheName) {
+        InstanceHandle<CacheWeigher> weigher = Arc.container().instance(CacheWeigher.class, NamedLiteral.of(cacheName));
+        // If there's no weigher bean for this cache, the CaffeineCache will use the default one.
+        return weigher.isAvailable() ? weigher.get() : null;
+    }
 }
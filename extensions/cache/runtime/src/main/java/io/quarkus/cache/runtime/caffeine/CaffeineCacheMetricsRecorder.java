@@ -0,0 +1,77 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * This recorder is invoked IFF the cache metrics are enabled.
+ */
+@Recorder
+public class CaffeineCacheMetricsRecorder {
+
+    private static final String CACHE_TAG_NAME = "cache";
+
+    /* RUNTIME_INIT, after the caches have been built */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheRepository cacheRepository = Arc.container().instance(CacheRepository.class).get();
+                for (CaffeineCache cache : cacheRepository.getCaches()) {
+                    if (cache.isRecordingStats()) {
+                        registerMetrics(metricsFactory, cache);
+                    }
+                }
+            }
+        };
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory, CaffeineCache cache) {
+        createStatsCounter(metricsFactory, "cache.hits",
+                "The number of times a cache lookup returned a cached value",
+                cache, CaffeineCacheStats::getHitCount);
+        createStatsCounter(metricsFactory, "cache.misses",
+                "The number of times a cache lookup returned an uncached value",
+                cache, CaffeineCacheStats::getMissCount);
+        createStatsCounter(metricsFactory, "cache.loads.successful",
+                "The number of times a new value was successfully loaded into the cache",
+                cache, CaffeineCacheStats::getLoadSuccessCount);
+        createStatsCounter(metricsFactory, "cache.loads.failed",
+                "The number of times the loading of a new value failed",
+                cache, CaffeineCacheStats::getLoadFailureCount);
+        createStatsCounter(metricsFactory, "cache.evictions",
+                "The number of times an entry was evicted from the cache",
+                cache, CaffeineCacheStats::getEvictionCount);
+        createStatsCounter(metricsFactory, "cache.lock-timeouts",
+                "The number of times the lock on cache miss was interrupted because the lock timeout was reached",
+                cache, CaffeineCacheStats::getLockTimeoutCount);
+
+        metricsFactory.builder("cache.hit-ratio")
+                .description("The ratio of cache lookups which returned a cached value")
+                .tag(CACHE_TAG_NAME, cache.getName())
+                .buildGauge(cache, c -> c.getStats().getHitRate());
+        metricsFactory.builder("cache.size")
+                .description("The approximate number of entries in the cache")
+                .tag(CACHE_TAG_NAME, cache.getName())
+                .buildGauge(cache, CaffeineCache::getEstimatedSize);
+
+        cache.getStatsCounter().setLoadTimeRecorder(metricsFactory.builder("cache.load-time")
+                .description("The time spent loading new values into the cache")
+                .tag(CACHE_TAG_NAME, cache.getName())
+                .unit("nanoseconds")
+                .buildTimer());
+    }
+
+    void createStatsCounter(MetricsFactory metricsFactory, String metricName, String description, CaffeineCache cache,
+            Function<CaffeineCacheStats, Long> f) {
+        metricsFactory.builder(metricName)
+                .description(description)
+                .tag(CACHE_TAG_NAME, cache.getName())
+                .buildCounter(cache, c -> f.apply(c.getStats()));
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Immutable snapshot of the statistics of a {@link CaffeineCache}. All values are {@code 0} if the statistics recording is
+ * disabled for the cache.
+ */
+public class CaffeineCacheStats {
+
+    private final CacheStats stats;
+
+    private final long lockTimeoutCount;
+
+    public CaffeineCacheStats(CacheStats stats, long lockTimeoutCount) {
+        this.stats = stats;
+        this.lockTimeoutCount = lockTimeoutCount;
+    }
+
+    public long getHitCount() {
+        return stats.hitCount();
+    }
+
+    public long getMissCount() {
+        return stats.missCount();
+    }
+
+    public double getHitRate() {
+        return stats.hitRate();
+    }
+
+    public long getLoadSuccessCount() {
+        return stats.loadSuccessCount();
+    }
+
+    public long getLoadFailureCount() {
+        return stats.loadFailureCount();
+    }
+
+    /**
+     * @return total number of nanoseconds spent loading new values
+     */
+    public long getTotalLoadTime() {
+        return stats.totalLoadTime();
+    }
+
+    /**
+     * @return average number of nanoseconds spent loading new values
+     */
+    public double getAverageLoadPenalty() {
+        return stats.averageLoadPenalty();
+    }
+
+    public long getEvictionCount() {
+        return stats.evictionCount();
+    }
+
+    /**
+     * @return number of times the lock on cache miss was interrupted because the {@code lockTimeout} delay was reached
+     */
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CaffeineCacheStats [stats=" + stats + ", lockTimeoutCount=" + lockTimeoutCount + "]";
+    }
+}
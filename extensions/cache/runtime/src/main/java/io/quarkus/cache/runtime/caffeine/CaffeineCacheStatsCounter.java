@@ -0,0 +1,86 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Caffeine {@link StatsCounter} which also counts the lock timeouts of a {@link CaffeineCache} and forwards each load duration
+ * to a {@link TimeRecorder} once the cache metrics have been registered.
+ */
+public class CaffeineCacheStatsCounter implements StatsCounter {
+
+    private final ConcurrentStatsCounter delegate = new ConcurrentStatsCounter();
+
+    private final LongAdder lockTimeoutCount = new LongAdder();
+
+    private volatile TimeRecorder loadTimeRecorder;
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+        recordLoadTime(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+        recordLoadTime(loadTime);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void recordEviction() {
+        delegate.recordEviction();
+    }
+
+    @Override
+    public void recordEviction(int weight) {
+        delegate.recordEviction(weight);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    public void recordLockTimeout() {
+        lockTimeoutCount.increment();
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount.sum();
+    }
+
+    void setLoadTimeRecorder(TimeRecorder loadTimeRecorder) {
+        this.loadTimeRecorder = loadTimeRecorder;
+    }
+
+    private void recordLoadTime(long loadTime) {
+        TimeRecorder recorder = loadTimeRecorder;
+        if (recorder != null) {
+            recorder.update(loadTime, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.Collection;
+import java.util.Map;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * Default {@link CacheWeigher} which estimates the size in bytes of the cached values. The estimation is exact enough for
+ * strings, arrays, boxed primitives and collections or maps of such values, which are expected to be the most common cached
+ * values. Any other object is given a fixed weight since its size cannot be estimated without walking its object graph.
+ */
+public class EstimatedSizeWeigher implements CacheWeigher {
+
+    // Estimated weight of an object whose size cannot be computed.
+    static final int DEFAULT_OBJECT_WEIGHT = 64;
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    // Collections and maps elements are only weighed down to this depth to keep the weighing cost bounded.
+    private static final int MAX_DEPTH = 3;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = estimate(value, 0);
+        return weight > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) weight;
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence) {
+            // Compact strings use one byte per character for most texts.
+            return OBJECT_HEADER + ARRAY_HEADER + ((CharSequence) value).length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof byte[]) {
+            return ARRAY_HEADER + ((byte[]) value).length;
+        }
+        if (value instanceof char[]) {
+            return ARRAY_HEADER + 2L * ((char[]) value).length;
+        }
+        if (value instanceof int[]) {
+            return ARRAY_HEADER + 4L * ((int[]) value).length;
+        }
+        if (value instanceof long[]) {
+            return ARRAY_HEADER + 8L * ((long[]) value).length;
+        }
+        if (value instanceof double[]) {
+            return ARRAY_HEADER + 8L * ((double[]) value).length;
+        }
+        if (depth >= MAX_DEPTH) {
+            return DEFAULT_OBJECT_WEIGHT;
+        }
+        if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            long weight = ARRAY_HEADER + (long) REFERENCE * array.length;
+            for (Object element : array) {
+                weight += estimate(element, depth + 1);
+            }
+            return weight;
+        }
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            long weight = OBJECT_HEADER + ARRAY_HEADER + (long) REFERENCE * collection.size();
+            for (Object element : collection) {
+                weight += estimate(element, depth + 1);
+            }
+            return weight;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            // Each map entry is usually backed by a node object.
+            long weight = OBJECT_HEADER + ARRAY_HEADER + (long) (REFERENCE + OBJECT_HEADER + 3 * REFERENCE) * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return weight;
+        }
+        return DEFAULT_OBJECT_WEIGHT;
+    }
+}
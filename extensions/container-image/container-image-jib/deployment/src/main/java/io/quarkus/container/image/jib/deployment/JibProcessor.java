@@ -51,6 +51,7 @@ import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.MainClassBuildItem;
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
@@ -75,6 +76,8 @@ public class JibProcessor {
             PackageConfig packageConfig,
             ContainerImageInfoBuildItem containerImage,
             JarBuildItem sourceJar,
+            // used to ensure that the class loading profile is part of the image
+            Optional<ClassLoadingProfileBuildItem> classLoadingProfile,
             MainClassBuildItem mainClass,
             OutputTargetBuildItem outputTarget, ApplicationInfoBuildItem applicationInfo,
             Optional<ContainerImageBuildRequestBuildItem> buildRequest,
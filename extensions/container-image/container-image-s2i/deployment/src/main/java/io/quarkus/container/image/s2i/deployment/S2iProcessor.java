@@ -158,7 +158,9 @@ public class S2iProcessor {
             Optional<ContainerImagePushRequestBuildItem> pushRequest,
             BuildProducer<ArtifactResultBuildItem> artifactResultProducer,
             // used to ensure that the jar has been built
-            JarBuildItem jar) {
+            JarBuildItem jar,
+            // used to ensure that the class loading profile is part of the image
+            Optional<ClassLoadingProfileBuildItem> classLoadingProfile) {
 
         if (!containerImageConfig.build && !containerImageConfig.push && !buildRequest.isPresent()
                 && !pushRequest.isPresent()) {
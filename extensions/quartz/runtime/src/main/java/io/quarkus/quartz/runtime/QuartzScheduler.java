@@ -12,6 +12,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
@@ -30,6 +31,7 @@ import org.quartz.SchedulerException;
 import org.quartz.SchedulerFactory;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
 import org.quartz.impl.StdSchedulerFactory;
 import org.quartz.simpl.InitThreadContextClassLoadHelper;
 import org.quartz.simpl.SimpleJobFactory;
@@ -54,6 +56,7 @@ import io.quarkus.scheduler.Trigger;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerMetrics;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
 import io.quarkus.scheduler.runtime.SkipConcurrentExecutionInvoker;
@@ -78,7 +81,8 @@ public class QuartzScheduler implements Scheduler {
     }
 
     public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, Config config,
-            SchedulerRuntimeConfig schedulerRuntimeConfig, Event<SkippedExecution> skippedExecutionEvent) {
+            SchedulerRuntimeConfig schedulerRuntimeConfig, Event<SkippedExecution> skippedExecutionEvent,
+            Instance<SchedulerMetrics> schedulerMetrics) {
         enabled = schedulerRuntimeConfig.enabled;
         if (!enabled) {
             LOGGER.info("Quartz scheduler is disabled by config property and will not be started");
@@ -102,11 +106,13 @@ public class QuartzScheduler implements Scheduler {
                 scheduler = schedulerFactory.getScheduler();
 
                 // Set custom job factory
-                scheduler.setJobFactory(new InvokerJobFactory(invokers));
+                scheduler.setJobFactory(new InvokerJobFactory(invokers, context));
 
                 CronType cronType = context.getCronType();
                 CronDefinition def = CronDefinitionBuilder.instanceDefinitionFor(cronType);
                 CronParser parser = new CronParser(def);
+                // The metrics bean is only registered if the scheduler metrics are enabled
+                SchedulerMetrics metrics = schedulerMetrics.isResolvable() ? schedulerMetrics.get() : null;
                 if (transaction != null) {
                     transaction.begin();
                 }
@@ -119,6 +125,12 @@ public class QuartzScheduler implements Scheduler {
                             identity = ++nameSequence + "_" + method.getInvokerClassName();
                         }
                         ScheduledInvoker invoker = context.createInvoker(method.getInvokerClassName());
+                        if (metrics != null) {
+                            // The trigger id is derived from the trigger key, see QuartzTrigger#getId()
+                            invoker = metrics.instrument(method.getMethodDescription(),
+                                    TriggerKey.triggerKey(identity + "_trigger", Scheduler.class.getName()).toString(),
+                                    invoker);
+                        }
                         if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
                             invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
                         }
@@ -348,9 +360,11 @@ public class QuartzScheduler implements Scheduler {
     static class InvokerJob implements Job {
 
         final Map<String, ScheduledInvoker> invokers;
+        final SchedulerContext schedulerContext;
 
-        InvokerJob(Map<String, ScheduledInvoker> invokers) {
+        InvokerJob(Map<String, ScheduledInvoker> invokers, SchedulerContext schedulerContext) {
             this.invokers = invokers;
+            this.schedulerContext = schedulerContext;
         }
 
         @Override
@@ -358,7 +372,22 @@ public class QuartzScheduler implements Scheduler {
             QuartzTrigger trigger = new QuartzTrigger(context);
             ScheduledInvoker scheduledInvoker = invokers.get(context.getJobDetail().getKey().getName());
             if (scheduledInvoker != null) { // could be null from previous runs
-                scheduledInvoker.invoke(new QuartzScheduledExecution(trigger));
+                if (scheduledInvoker.isBlocking()) {
+                    scheduledInvoker.invoke(new QuartzScheduledExecution(trigger));
+                } else {
+                    // Do not block the quartz worker thread - the job is considered complete once it's dispatched
+                    schedulerContext.getVertx().getOrCreateContext().runOnContext(v -> {
+                        try {
+                            scheduledInvoker.invokeAsync(new QuartzScheduledExecution(trigger)).whenComplete((r, t) -> {
+                                if (t != null) {
+                                    LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger.getId());
+                                }
+                            });
+                        } catch (Throwable t) {
+                            LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger.getId());
+                        }
+                    });
+                }
             }
         }
     }
@@ -405,12 +434,12 @@ public class QuartzScheduler implements Scheduler {
 
         @Override
         public Instant getFireTime() {
-            return trigger.context.getScheduledFireTime().toInstant();
+            return trigger.context.getFireTime().toInstant();
         }
 
         @Override
         public Instant getScheduledFireTime() {
-            return trigger.context.getFireTime().toInstant();
+            return trigger.context.getScheduledFireTime().toInstant();
         }
 
     }
@@ -418,16 +447,18 @@ public class QuartzScheduler implements Scheduler {
     static class InvokerJobFactory extends SimpleJobFactory {
 
         final Map<String, ScheduledInvoker> invokers;
+        final SchedulerContext schedulerContext;
 
-        InvokerJobFactory(Map<String, ScheduledInvoker> invokers) {
+        InvokerJobFactory(Map<String, ScheduledInvoker> invokers, SchedulerContext schedulerContext) {
             this.invokers = invokers;
+            this.schedulerContext = schedulerContext;
         }
 
         @Override
         public Job newJob(TriggerFiredBundle bundle, org.quartz.Scheduler Scheduler) throws SchedulerException {
             Class<? extends Job> jobClass = bundle.getJobDetail().getJobClass();
             if (jobClass.equals(InvokerJob.class)) {
-                return new InvokerJob(invokers);
+                return new InvokerJob(invokers, schedulerContext);
             }
             return super.newJob(bundle, Scheduler);
         }
@@ -11,6 +11,17 @@ import io.quarkus.qute.Variant;
 
 class HtmlEscaper implements ResultMapper {
 
+    // Replacements indexed by character
+    private static final String[] REPLACEMENTS = new String['>' + 1];
+
+    static {
+        REPLACEMENTS['"'] = "&quot;";
+        REPLACEMENTS['\''] = "&#39;";
+        REPLACEMENTS['&'] = "&amp;";
+        REPLACEMENTS['<'] = "&lt;";
+        REPLACEMENTS['>'] = "&gt;";
+    }
+
     @Override
     public boolean appliesTo(Origin origin, Object result) {
         if (result instanceof RawString) {
@@ -32,13 +43,15 @@ class HtmlEscaper implements ResultMapper {
         if (Objects.requireNonNull(value).length() == 0) {
             return value.toString();
         }
-        for (int i = 0; i < value.length(); i++) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
             String replacement = replacementFor(value.charAt(i));
             if (replacement != null) {
                 // In most cases we will not need to escape the value at all
                 return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
             }
         }
+        // Nothing to escape - strings are returned as is
         return value.toString();
     }
 
@@ -63,20 +76,8 @@ class HtmlEscaper implements ResultMapper {
     }
 
     private String replacementFor(char c) {
-        switch (c) {
-            case '"':
-                return "&quot;";
-            case '\'':
-                return "&#39;";
-            case '&':
-                return "&amp;";
-            case '<':
-                return "&lt;";
-            case '>':
-                return "&gt;";
-            default:
-                return null;
-        }
+        // Letters and the characters beyond ASCII are never escaped
+        return c > '>' ? null : REPLACEMENTS[c];
     }
 
 }
@@ -22,6 +22,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.TemplateInstanceBase;
@@ -164,6 +165,11 @@ public class TemplateProducer {
             return templateInstance().consume(consumer);
         }
 
+        @Override
+        public CompletionStage<ResultNode> resolve() {
+            return templateInstance().resolve();
+        }
+
         private TemplateInstance templateInstance() {
             TemplateInstance instance = template().instance();
             instance.data(data());
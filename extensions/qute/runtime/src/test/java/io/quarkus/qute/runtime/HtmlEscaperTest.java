@@ -2,6 +2,7 @@ package io.quarkus.qute.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -53,7 +54,8 @@ public class HtmlEscaperTest {
     @Test
     public void testEscaping() throws IOException {
         HtmlEscaper html = new HtmlEscaper();
-        assertEquals("Čolek", html.escape("Čolek"));
+        String noEscaping = "Čolek";
+        assertSame(noEscaping, html.escape(noEscaping));
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
     }
@@ -0,0 +1,58 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AsyncTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(AsyncResource.class)
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/async.txt"));
+
+    @Test
+    public void testAsyncValue() {
+        when().get("/async").then()
+                .statusCode(200)
+                .body(Matchers.is("Hello world!"));
+    }
+
+    @Path("async")
+    public static class AsyncResource {
+
+        @Inject
+        Template async;
+
+        @GET
+        public TemplateInstance get() {
+            // The template is rendered once the value is available
+            return async.data("name", CompletableFuture.supplyAsync(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "world";
+            }));
+        }
+    }
+
+}
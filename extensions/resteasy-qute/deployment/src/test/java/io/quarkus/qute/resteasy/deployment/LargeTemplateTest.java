@@ -0,0 +1,58 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LargeTemplateTest {
+
+    private static final int ROWS = 20000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(RowsResource.class)
+                    .addAsResource(new StringAsset("{#for i in total}<tr><td>{i}</td></tr>\n{/for}"),
+                            "templates/rows.txt"));
+
+    @Test
+    public void testLargeTemplate() {
+        String expected = IntStream.rangeClosed(1, ROWS).mapToObj(i -> "<tr><td>" + i + "</td></tr>\n")
+                .collect(Collectors.joining());
+        when().get("/rows").then()
+                .statusCode(200)
+                // The page is streamed while it is produced, so its length is not known upfront
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Length", Matchers.nullValue())
+                .body(Matchers.is(expected));
+    }
+
+    @Path("rows")
+    public static class RowsResource {
+
+        @Inject
+        Template rows;
+
+        @GET
+        public TemplateInstance get() {
+            return rows.data("total", ROWS);
+        }
+    }
+
+}
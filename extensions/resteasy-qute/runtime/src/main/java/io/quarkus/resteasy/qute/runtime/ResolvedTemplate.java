@@ -0,0 +1,23 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import io.quarkus.qute.ResultNode;
+
+/**
+ * A template instance whose values are all resolved by {@link TemplateResponseFilter}.
+ * <p>
+ * The result tree is processed by {@link TemplateResponseWriter} directly into the entity stream, so the output is never
+ * held in memory as a whole.
+ */
+public final class ResolvedTemplate {
+
+    private final ResultNode result;
+
+    ResolvedTemplate(ResultNode result) {
+        this.result = result;
+    }
+
+    ResultNode getResult() {
+        return result;
+    }
+
+}
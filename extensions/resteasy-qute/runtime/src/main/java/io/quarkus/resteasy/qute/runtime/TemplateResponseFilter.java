@@ -2,6 +2,8 @@ package io.quarkus.resteasy.qute.runtime;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.container.ContainerRequestContext;
@@ -12,9 +14,17 @@ import javax.ws.rs.ext.Provider;
 
 import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseContext;
 
+import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 
+/**
+ * Renders a template instance returned by a resource method.
+ * <p>
+ * The values used by the template are resolved first, then the result tree is written to the response by
+ * {@link TemplateResponseWriter}. If some of the values are not available yet, the response is suspended until they are
+ * resolved.
+ */
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
 
@@ -23,9 +33,6 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
-            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
-
             MediaType mediaType;
             TemplateInstance instance = (TemplateInstance) entity;
             Object variantsAttr = instance.getAttribute(TemplateInstance.VARIANTS);
@@ -50,25 +57,49 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            CompletionStage<ResultNode> result;
             try {
-                instance.renderAsync()
-                        .whenComplete((r, t) -> {
-                            if (t == null) {
-                                // make sure we avoid setting a null media type because that causes
-                                // an NPE further down
-                                if (mediaType != null) {
-                                    ctx.setEntity(r, null, mediaType);
-                                } else {
-                                    ctx.setEntity(r);
-                                }
-                                ctx.resume();
-                            } else {
-                                ctx.resume(t);
-                            }
-                        });
+                result = instance.resolve();
             } catch (Throwable t) {
-                ctx.resume(t);
+                CompletableFuture<ResultNode> failure = new CompletableFuture<>();
+                failure.completeExceptionally(t);
+                result = failure;
+            }
+            ResultNode resolved = getIfCompleted(result);
+            if (resolved != null) {
+                // All the values were available - the output is produced when the response is written
+                setEntity(responseContext, new ResolvedTemplate(resolved), mediaType);
+                return;
             }
+
+            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
+            ctx.suspend();
+            result.whenComplete((r, t) -> {
+                if (t == null) {
+                    setEntity(ctx, new ResolvedTemplate(r), mediaType);
+                    ctx.resume();
+                } else {
+                    ctx.resume(t);
+                }
+            });
+        }
+    }
+
+    private static ResultNode getIfCompleted(CompletionStage<ResultNode> stage) {
+        CompletableFuture<ResultNode> future = stage.toCompletableFuture();
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return future.join();
+        }
+        return null;
+    }
+
+    private static void setEntity(ContainerResponseContext responseContext, Object entity, MediaType mediaType) {
+        // make sure we avoid setting a null media type because that causes
+        // an NPE further down
+        if (mediaType != null) {
+            responseContext.setEntity(entity, null, mediaType);
+        } else {
+            responseContext.setEntity(entity);
         }
     }
 }
@@ -0,0 +1,122 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import io.quarkus.qute.Utf8ResultConsumer;
+
+/**
+ * Writes the output of a template instance resolved by {@link TemplateResponseFilter}.
+ * <p>
+ * The result tree is processed directly into the entity stream, one chunk at a time, so that the first bytes of a large
+ * page are sent before the rest of the page is produced and the page is never held in memory as a whole. The entity
+ * stream applies backpressure if the client does not keep up.
+ */
+@Provider
+@Produces("*/*")
+public class TemplateResponseWriter implements MessageBodyWriter<ResolvedTemplate> {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ResolvedTemplate.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(ResolvedTemplate template, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        Charset charset = charset(mediaType);
+        try {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                Utf8ChunkWriter writer = new Utf8ChunkWriter(entityStream);
+                template.getResult().process(writer);
+                writer.flush();
+            } else {
+                Writer writer = new OutputStreamWriter(entityStream, charset);
+                template.getResult().process(text -> {
+                    try {
+                        writer.write(text);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Charset charset(MediaType mediaType) {
+        String charset = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        return charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Collects the output in a fixed size chunk that is written to the stream whenever it is full. The static text of a
+     * template is copied as is.
+     */
+    private static final class Utf8ChunkWriter implements Utf8ResultConsumer {
+
+        private final OutputStream out;
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private int position;
+
+        Utf8ChunkWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(String text) {
+            write(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void acceptUtf8(String text, byte[] utf8) {
+            write(utf8);
+        }
+
+        private void write(byte[] bytes) {
+            try {
+                if (bytes.length > chunk.length - position) {
+                    if (position > 0) {
+                        out.write(chunk, 0, position);
+                        position = 0;
+                    }
+                    if (bytes.length > chunk.length) {
+                        out.write(bytes);
+                        return;
+                    }
+                }
+                System.arraycopy(bytes, 0, chunk, position, bytes.length);
+                position += bytes.length;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void flush() throws IOException {
+            if (position > 0) {
+                out.write(chunk, 0, position);
+                position = 0;
+            }
+        }
+    }
+
+}
@@ -18,7 +18,10 @@ import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.runtime.standalone.ByteArrayMessageBodyHandler;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
+import io.quarkus.resteasy.runtime.standalone.StringMessageBodyHandler;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
@@ -43,6 +46,16 @@ public class ResteasyStandaloneBuildStep {
 
     }
 
+    @BuildStep
+    void registerProviders(Capabilities capabilities, BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        if (capabilities.isPresent(Capability.SERVLET)) {
+            return;
+        }
+        // these read and write the standalone request and response buffers directly
+        providers.produce(new ResteasyJaxrsProviderBuildItem(ByteArrayMessageBodyHandler.class.getName()));
+        providers.produce(new ResteasyJaxrsProviderBuildItem(StringMessageBodyHandler.class.getName()));
+    }
+
     @BuildStep()
     @Record(STATIC_INIT)
     public void staticInit(ResteasyStandaloneRecorder recorder,
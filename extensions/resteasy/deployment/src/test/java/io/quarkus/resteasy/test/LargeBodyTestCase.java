@@ -0,0 +1,100 @@
+package io.quarkus.resteasy.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class LargeBodyTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(EchoResource.class));
+
+    @Test
+    public void testByteArray() {
+        byte[] body = new byte[200_000];
+        new Random(42).nextBytes(body);
+        Response response = RestAssured.given()
+                .contentType("application/octet-stream")
+                .body(body)
+                .post("/echo/bytes");
+        assertEquals(200, response.statusCode());
+        assertEquals(String.valueOf(body.length), response.header("Content-Length"));
+        assertArrayEquals(body, response.asByteArray());
+    }
+
+    @Test
+    public void testString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            sb.append("héllo wörld ");
+        }
+        String body = sb.toString();
+        Response response = RestAssured.given()
+                .contentType("text/plain; charset=UTF-8")
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .post("/echo/string");
+        assertEquals(200, response.statusCode());
+        assertEquals(body, new String(response.asByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLatin1String() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            sb.append("héllo wörld ");
+        }
+        String body = sb.toString();
+        Response response = RestAssured.given()
+                .contentType("text/plain; charset=UTF-8")
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .post("/echo/latin1");
+        assertEquals(200, response.statusCode());
+        assertEquals(body, new String(response.asByteArray(), StandardCharsets.ISO_8859_1));
+    }
+
+    @Path("/echo")
+    public static class EchoResource {
+
+        @POST
+        @Path("bytes")
+        @Consumes("application/octet-stream")
+        @Produces("application/octet-stream")
+        public byte[] bytes(byte[] body) {
+            return body;
+        }
+
+        @POST
+        @Path("string")
+        @Consumes("text/plain")
+        @Produces("text/plain")
+        public String string(String body) {
+            return body;
+        }
+
+        @POST
+        @Path("latin1")
+        @Consumes("text/plain")
+        @Produces("text/plain;charset=ISO-8859-1")
+        public String latin1(String body) {
+            return body;
+        }
+    }
+}
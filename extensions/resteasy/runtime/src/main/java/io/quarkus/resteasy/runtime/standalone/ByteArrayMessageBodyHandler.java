@@ -0,0 +1,142 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * A body reader and writer for {@code byte[]} that avoids copying the entity between Netty buffers and byte arrays
+ * when running on the standalone Vert.x based deployment.
+ * <p>
+ * A request body that has already been read is copied once out of its buffer, and a response entity is wrapped in
+ * a buffer and written as is. When the entity streams are decorated, e.g. by a GZIP interceptor, this falls back to
+ * plain stream copies.
+ * <p>
+ * The priority is lower than the default priority of application providers, so that these can still replace it.
+ */
+@Provider
+@Consumes("*/*")
+@Produces("*/*")
+@Priority(Priorities.USER + 100)
+public class ByteArrayMessageBodyHandler implements MessageBodyReader<byte[]>, AsyncMessageBodyWriter<byte[]> {
+
+    private static final int BUFFER_SIZE = 4096;
+    /**
+     * The largest body that is read into an array allocated upfront from the {@code Content-Length} header, so that a
+     * bogus header cannot make us allocate an arbitrary amount of memory.
+     */
+    private static final int MAX_PRESIZED_LENGTH = 16 * 1024 * 1024;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == byte[].class;
+    }
+
+    @Override
+    public byte[] readFrom(Class<byte[]> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        return readAll(entityStream, httpHeaders);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == byte[].class;
+    }
+
+    @Override
+    public long getSize(byte[] bytes, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return bytes.length;
+    }
+
+    @Override
+    public void writeTo(byte[] bytes, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        VertxOutputStream out = VertxOutputStream.unwrap(entityStream);
+        if (out != null) {
+            out.write(Unpooled.wrappedBuffer(bytes));
+        } else {
+            entityStream.write(bytes);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(byte[] bytes, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        return entityStream.asyncWrite(bytes);
+    }
+
+    /**
+     * Reads a request body. A body that has already been read is copied once out of its buffer, otherwise the body
+     * is read into an array sized from the {@code Content-Length} header if there is one.
+     */
+    static byte[] readAll(InputStream entityStream, MultivaluedMap<String, String> httpHeaders) throws IOException {
+        if (entityStream instanceof VertxBufferInputStream) {
+            return ((VertxBufferInputStream) entityStream).readAllRemaining();
+        }
+        int length = contentLength(httpHeaders);
+        if (length < 0 || length > MAX_PRESIZED_LENGTH) {
+            return readFully(entityStream, new ByteArrayOutputStream(BUFFER_SIZE));
+        }
+        byte[] bytes = new byte[length];
+        int pos = 0;
+        while (pos < length) {
+            int read = entityStream.read(bytes, pos, length - pos);
+            if (read == -1) {
+                return Arrays.copyOf(bytes, pos);
+            }
+            pos += read;
+        }
+        int next = entityStream.read();
+        if (next == -1) {
+            return bytes;
+        }
+        //the entity stream has been decoded so the header does not describe it
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(length * 2, BUFFER_SIZE));
+        out.write(bytes);
+        out.write(next);
+        return readFully(entityStream, out);
+    }
+
+    private static byte[] readFully(InputStream entityStream, ByteArrayOutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = entityStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static int contentLength(MultivaluedMap<String, String> httpHeaders) {
+        String value = httpHeaders == null ? null : httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            long length = Long.parseLong(value.trim());
+            return length > Integer.MAX_VALUE ? -1 : (int) length;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+/**
+ * A body reader and writer for {@link String} that decodes and encodes the entity directly from and to Netty buffers
+ * when running on the standalone Vert.x based deployment.
+ *
+ * @see ByteArrayMessageBodyHandler
+ */
+@Provider
+@Consumes("*/*")
+@Produces("*/*")
+@Priority(Priorities.USER + 100)
+public class StringMessageBodyHandler implements MessageBodyReader<String>, AsyncMessageBodyWriter<String> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == String.class;
+    }
+
+    @Override
+    public String readFrom(Class<String> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        Charset charset = charset(mediaType);
+        if (entityStream instanceof VertxBufferInputStream) {
+            return ((VertxBufferInputStream) entityStream).readAllRemaining(charset);
+        }
+        return new String(ByteArrayMessageBodyHandler.readAll(entityStream, httpHeaders), charset);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == String.class;
+    }
+
+    @Override
+    public void writeTo(String text, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        Charset charset = charset(mediaType);
+        VertxOutputStream out = VertxOutputStream.unwrap(entityStream);
+        if (out != null) {
+            out.write(text, charset);
+        } else {
+            entityStream.write(text.getBytes(charset));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(String text, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        return entityStream.asyncWrite(text.getBytes(charset(mediaType)));
+    }
+
+    private static Charset charset(MediaType mediaType) {
+        String charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset);
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * An input stream over a request body that has already been fully read, which reads the body directly from the
+ * underlying {@link ByteBuf} instead of copying it to a byte array first.
+ * <p>
+ * The buffer is owned by the routing context, so it is never released by this stream.
+ */
+public class VertxBufferInputStream extends InputStream {
+
+    private final ByteBuf buffer;
+    private int mark;
+
+    public VertxBufferInputStream(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.mark = buffer.readerIndex();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!buffer.isReadable()) {
+            return -1;
+        }
+        return buffer.readByte() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int readable = buffer.readableBytes();
+        if (readable == 0) {
+            return -1;
+        }
+        int read = Math.min(len, readable);
+        buffer.readBytes(b, off, read);
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        int skipped = (int) Math.min(Math.max(n, 0), buffer.readableBytes());
+        buffer.skipBytes(skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return buffer.readableBytes();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        mark = buffer.readerIndex();
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        buffer.readerIndex(mark);
+    }
+
+    /**
+     * Reads the rest of the body with a single copy.
+     *
+     * @return the unread bytes of the body
+     */
+    public byte[] readAllRemaining() {
+        byte[] bytes = ByteBufUtil.getBytes(buffer);
+        buffer.skipBytes(bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Decodes the rest of the body directly from the buffer.
+     *
+     * @param charset The charset of the body
+     * @return the unread part of the body as a string
+     */
+    public String readAllRemaining(Charset charset) {
+        String text = buffer.toString(charset);
+        buffer.skipBytes(buffer.readableBytes());
+        return text;
+    }
+}
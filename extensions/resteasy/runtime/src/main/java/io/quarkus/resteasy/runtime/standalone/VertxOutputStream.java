@@ -1,14 +1,25 @@
 package io.quarkus.resteasy.runtime.standalone;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import javax.ws.rs.core.HttpHeaders;
 
 import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.util.CommitHeaderOutputStream;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.CharsetUtil;
 
 public class VertxOutputStream extends AsyncOutputStream {
 
@@ -83,6 +94,111 @@ public class VertxOutputStream extends AsyncOutputStream {
         updateWritten(len);
     }
 
+    /**
+     * Writes a buffer without copying it. The stream takes ownership of the buffer, which is released once it has
+     * been written.
+     * <p>
+     * The buffer is only sent on the next write, flush or close, so that a response that consists of a single buffer
+     * is sent with a {@code Content-Length} header rather than chunked.
+     *
+     * @param data The data to write
+     */
+    public void write(final ByteBuf data) throws IOException {
+        if (closed) {
+            data.release();
+            throw new IOException("Stream is closed");
+        }
+        int len = data.readableBytes();
+        if (len == 0) {
+            data.release();
+            return;
+        }
+        ByteBuf buffer = pooledBuffer;
+        try {
+            if (buffer != null) {
+                pooledBuffer = null;
+                if (buffer.isReadable()) {
+                    response.writeBlocking(buffer, false);
+                } else {
+                    buffer.release();
+                }
+            }
+        } catch (Exception e) {
+            data.release();
+            throw new IOException(e);
+        }
+        //further writes will not fit in this buffer, so it will be sent before anything else is written
+        pooledBuffer = data;
+        updateWritten(len);
+    }
+
+    /**
+     * Encodes text directly into a pooled buffer and writes it, without creating an intermediate byte array.
+     *
+     * @param text The text to write
+     * @param charset The charset used to encode the text
+     */
+    public void write(final CharSequence text, final Charset charset) throws IOException {
+        if (text.length() == 0) {
+            return;
+        }
+        ByteBuf buffer;
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            buffer = allocator.allocateBuffer(ByteBufUtil.utf8Bytes(text));
+            ByteBufUtil.writeUtf8(buffer, text);
+        } else {
+            buffer = encode(text, charset);
+        }
+        write(buffer);
+    }
+
+    private ByteBuf encode(CharSequence text, Charset charset) throws IOException {
+        CharsetEncoder encoder = CharsetUtil.encoder(charset);
+        int length = (int) ((double) text.length() * encoder.maxBytesPerChar());
+        ByteBuf buffer = allocator.allocateBuffer(length);
+        try {
+            ByteBuffer dst = buffer.internalNioBuffer(buffer.writerIndex(), length);
+            int pos = dst.position();
+            CoderResult result = encoder.encode(CharBuffer.wrap(text), dst, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            result = encoder.flush(dst);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            buffer.writerIndex(buffer.writerIndex() + dst.position() - pos);
+            return buffer;
+        } catch (CharacterCodingException e) {
+            buffer.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Finds the {@link VertxOutputStream} an entity stream writes to, so that message body writers can write buffers
+     * without copying them.
+     *
+     * @param entityStream The stream passed to a message body writer
+     * @return the underlying stream, or {@code null} if the entity is transformed before it reaches the response,
+     *         e.g. by a compressing writer interceptor
+     */
+    public static VertxOutputStream unwrap(OutputStream entityStream) {
+        if (entityStream instanceof CommitHeaderOutputStream) {
+            CommitHeaderOutputStream commitHeaderOutputStream = (CommitHeaderOutputStream) entityStream;
+            if (commitHeaderOutputStream.getDelegate() instanceof VertxOutputStream) {
+                //the headers are normally committed by the first write to the wrapper
+                commitHeaderOutputStream.commit();
+                return (VertxOutputStream) commitHeaderOutputStream.getDelegate();
+            }
+            return null;
+        }
+        if (entityStream instanceof VertxOutputStream) {
+            return (VertxOutputStream) entityStream;
+        }
+        return null;
+    }
+
     void updateWritten(final long len) throws IOException {
         this.written += len;
         if (contentLength != -1 && this.written >= contentLength) {
@@ -1,6 +1,5 @@
 package io.quarkus.resteasy.runtime.standalone;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.Executor;
@@ -72,7 +71,7 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         InputStream is;
         try {
             if (request.getBody() != null) {
-                is = new ByteArrayInputStream(request.getBody().getBytes());
+                is = new VertxBufferInputStream(request.getBody().getByteBuf());
             } else {
                 is = new VertxInputStream(request, readTimeout);
             }
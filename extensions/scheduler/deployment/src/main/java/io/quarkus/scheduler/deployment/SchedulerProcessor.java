@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.inject.Singleton;
 
@@ -57,20 +59,30 @@ import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.TryBlock;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.ScheduledInvokers;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerMetrics;
+import io.quarkus.scheduler.runtime.SchedulerMetricsRecorder;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 
 /**
  * @author Martin Kouba
@@ -85,13 +97,20 @@ public class SchedulerProcessor {
     static final Type SCHEDULED_EXECUTION_TYPE = Type.create(DotName.createSimple(ScheduledExecution.class.getName()),
             Kind.CLASS);
 
+    static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+    static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
+    static final DotName VOID = DotName.createSimple(Void.class.getName());
+
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
 
     @BuildStep
-    void beans(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+    void beans(Capabilities capabilities, SchedulerConfig config, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         if (capabilities.isMissing(Capability.QUARTZ)) {
             additionalBeans.produce(new AdditionalBeanBuildItem(SimpleScheduler.class));
         }
+        if (config.metricsEnabled) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(SchedulerMetrics.class));
+        }
     }
 
     @BuildStep
@@ -184,10 +203,10 @@ public class SchedulerProcessor {
                         "Invalid scheduled business method parameters %s [method: %s, bean: %s]", params,
                         method, scheduledMethod.getBean())));
             }
-            if (!method.returnType().kind().equals(Type.Kind.VOID)) {
+            if (!method.returnType().kind().equals(Type.Kind.VOID) && !isNonBlocking(method)) {
                 errors.add(new IllegalStateException(
-                        String.format("Scheduled business method must return void [method: %s, bean: %s]",
-                                method, scheduledMethod.getBean())));
+                        String.format("Scheduled business method must return void, Uni<Void> or CompletionStage<Void> "
+                                + "[method: %s, bean: %s]", method, scheduledMethod.getBean())));
             }
             // Validate cron() and every() expressions
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType));
@@ -217,7 +236,7 @@ public class SchedulerProcessor {
             SchedulerRecorder recorder,
             List<ScheduledBusinessMethodItem> scheduledMethods,
             BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
-            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor) {
+            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor, CoreVertxBuildItem vertx) {
 
         List<ScheduledMethodMetadata> scheduledMetadata = new ArrayList<>();
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
@@ -232,18 +251,34 @@ public class SchedulerProcessor {
                 schedules.add(annotationProxy.builder(scheduled, Scheduled.class).build(classOutput));
             }
             metadata.setSchedules(schedules);
-            metadata.setMethodDescription(
-                    scheduledMethod.getMethod().declaringClass() + "#" + scheduledMethod.getMethod().name());
+            metadata.setMethodDescription(getMethodDescription(scheduledMethod.getMethod()));
             scheduledMetadata.add(metadata);
         }
 
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(SchedulerContext.class).setRuntimeInit()
-                .supplier(recorder.createContext(config, executor.getExecutorProxy(), scheduledMetadata))
+                .supplier(recorder.createContext(config, executor.getExecutorProxy(), vertx.getVertx(), scheduledMetadata))
                 .done());
 
         return new FeatureBuildItem(Feature.SCHEDULER);
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerMetrics(SchedulerConfig config, SchedulerMetricsRecorder recorder,
+            List<ScheduledBusinessMethodItem> scheduledMethods, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.metricsEnabled && !scheduledMethods.isEmpty()) {
+            List<String> methodDescriptions = new ArrayList<>();
+            for (ScheduledBusinessMethodItem scheduledMethod : scheduledMethods) {
+                methodDescriptions.add(getMethodDescription(scheduledMethod.getMethod()));
+            }
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(methodDescriptions)));
+        }
+    }
+
+    static String getMethodDescription(MethodInfo method) {
+        return method.declaringClass() + "#" + method.name();
+    }
+
     private String generateInvoker(ScheduledBusinessMethodItem scheduledMethod, ClassOutput classOutput) {
 
         BeanInfo bean = scheduledMethod.getBean();
@@ -269,8 +304,15 @@ public class SchedulerProcessor {
                 .interfaces(ScheduledInvoker.class)
                 .build();
 
-        // The descriptor is: void invokeBean(Object execution)
-        MethodCreator invoke = invokerCreator.getMethodCreator("invokeBean", void.class, Object.class);
+        boolean nonBlocking = isNonBlocking(method);
+        MethodCreator invoke;
+        if (nonBlocking) {
+            // The descriptor is: CompletionStage<Void> invokeBeanAsync(ScheduledExecution execution)
+            invoke = invokerCreator.getMethodCreator("invokeBeanAsync", CompletionStage.class, ScheduledExecution.class);
+        } else {
+            // The descriptor is: void invokeBean(Object execution)
+            invoke = invokerCreator.getMethodCreator("invokeBean", void.class, Object.class);
+        }
         // InjectableBean<Foo: bean = Arc.container().bean("1");
         // InstanceHandle<Foo> handle = Arc.container().instance(bean);
         // handle.get().ping();
@@ -284,27 +326,93 @@ public class SchedulerProcessor {
                 containerHandle, beanHandle);
         ResultHandle beanInstanceHandle = invoke
                 .invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "get", Object.class), instanceHandle);
+        boolean dependent = BuiltinScope.DEPENDENT.is(bean.getScope());
+        // try { ... } catch (Throwable t) { handle.destroy(); throw t; } - destroy dependent instance if the method throws
+        TryBlock tryBlock = dependent ? invoke.tryBlock() : null;
+        BytecodeCreator body = dependent ? tryBlock : invoke;
+        ResultHandle ret;
+        Object returnType = nonBlocking ? method.returnType().name().toString() : void.class;
         if (method.parameters().isEmpty()) {
-            invoke.invokeVirtualMethod(
-                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class),
+            ret = body.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType),
                     beanInstanceHandle);
         } else {
-            invoke.invokeVirtualMethod(
-                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class,
+            ret = body.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType,
                             ScheduledExecution.class),
                     beanInstanceHandle, invoke.getMethodParam(0));
         }
-        // handle.destroy() - destroy dependent instance afterwards
-        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
-            invoke.invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "destroy", void.class),
+        AssignableResultHandle stage = null;
+        if (nonBlocking) {
+            stage = invoke.createVariable(CompletionStage.class);
+            if (method.returnType().name().equals(UNI)) {
+                // The Uni is subscribed right away: stage = uni != null ? uni.subscribeAsCompletionStage() : null;
+                BranchResult isNull = body.ifNull(ret);
+                isNull.trueBranch().assign(stage, isNull.trueBranch().loadNull());
+                BytecodeCreator notNull = isNull.falseBranch();
+                notNull.assign(stage, notNull.invokeInterfaceMethod(
+                        MethodDescriptor.ofMethod(UNI.toString(), "subscribeAsCompletionStage", CompletableFuture.class),
+                        ret));
+            } else {
+                body.assign(stage, ret);
+            }
+        }
+        if (dependent) {
+            CatchBlockCreator catchBlock = tryBlock.addCatch(Throwable.class);
+            catchBlock.invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "destroy", void.class),
                     instanceHandle);
+            catchBlock.throwException(catchBlock.getCaughtException());
+        }
+        if (nonBlocking) {
+            // A null return value is treated as a completed action
+            ret = invoke.invokeStaticMethod(MethodDescriptor.ofMethod(ScheduledInvokers.class, "completedIfNull",
+                    CompletionStage.class, CompletionStage.class), stage);
+        }
+        // handle.destroy() - destroy dependent instance afterwards
+        if (dependent) {
+            if (nonBlocking) {
+                // The instance is destroyed when the returned stage completes
+                ret = invoke.invokeStaticMethod(MethodDescriptor.ofMethod(ScheduledInvokers.class, "destroyWhenComplete",
+                        CompletionStage.class, CompletionStage.class, InstanceHandle.class), ret, instanceHandle);
+            } else {
+                invoke.invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "destroy", void.class),
+                        instanceHandle);
+            }
+        }
+        if (nonBlocking) {
+            invoke.returnValue(ret);
+
+            // boolean isBlocking() - the default value is true
+            MethodCreator isBlocking = invokerCreator.getMethodCreator("isBlocking", boolean.class);
+            isBlocking.returnValue(isBlocking.load(false));
+
+            // void invokeBean(Object execution) - waits until the stage returned from invokeBeanAsync() completes
+            MethodCreator invokeBean = invokerCreator.getMethodCreator("invokeBean", void.class, Object.class);
+            ResultHandle stage = invokeBean.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(generatedName, "invokeBeanAsync", CompletionStage.class,
+                            ScheduledExecution.class),
+                    invokeBean.getThis(), invokeBean.checkCast(invokeBean.getMethodParam(0), ScheduledExecution.class));
+            invokeBean.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(ScheduledInvokers.class, "await", void.class, CompletionStage.class), stage);
+            invokeBean.returnValue(null);
+        } else {
+            invoke.returnValue(null);
         }
-        invoke.returnValue(null);
 
         invokerCreator.close();
         return generatedName.replace('/', '.');
     }
 
+    static boolean isNonBlocking(MethodInfo method) {
+        Type returnType = method.returnType();
+        if (returnType.kind() != Kind.PARAMETERIZED_TYPE
+                || (!returnType.name().equals(UNI) && !returnType.name().equals(COMPLETION_STAGE))) {
+            return false;
+        }
+        List<Type> typeArguments = returnType.asParameterizedType().arguments();
+        return typeArguments.size() == 1 && typeArguments.get(0).name().equals(VOID);
+    }
+
     private Throwable validateScheduled(CronParser parser, AnnotationInstance schedule,
             Map<String, AnnotationInstance> encounteredIdentities) {
         MethodInfo method = schedule.target().asMethod();
@@ -335,11 +443,16 @@ public class SchedulerProcessor {
                 if (Character.isDigit(every.charAt(0))) {
                     every = "PT" + every;
                 }
+                Duration interval;
                 try {
-                    Duration.parse(every);
+                    interval = Duration.parse(every);
                 } catch (Exception e) {
                     return new IllegalStateException("Invalid every() expression on: " + schedule, e);
                 }
+                if (interval.abs().toMillis() == 0) {
+                    return new IllegalStateException(
+                            "Invalid every() expression on: " + schedule + " - the interval must be at least one millisecond");
+                }
             } else {
                 return new IllegalStateException("@Scheduled must declare either cron() or every(): " + schedule);
             }
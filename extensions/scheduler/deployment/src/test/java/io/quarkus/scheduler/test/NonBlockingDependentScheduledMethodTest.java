@@ -0,0 +1,128 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
+import io.quarkus.scheduler.runtime.SchedulerContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class NonBlockingDependentScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Inject
+    SchedulerContext context;
+
+    @Test
+    public void testDependentInstanceDestroyedWhenComplete() throws Exception {
+        Jobs.DESTROYED.set(0);
+        ScheduledInvoker invoker = createInvoker("#run");
+
+        // invokeAsync() - the instance is destroyed once the returned stage completes
+        Jobs.stage = new CompletableFuture<>();
+        CompletionStage<Void> result = invoker.invokeAsync(null);
+        assertEquals(0, Jobs.DESTROYED.get());
+        Jobs.stage.complete(null);
+        result.toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(1, Jobs.DESTROYED.get());
+
+        // invoke() - waits until the returned stage completes
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        Jobs.stage = stage;
+        new Thread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stage.complete(null);
+        }).start();
+        invoker.invoke(null);
+        assertTrue(stage.isDone());
+        assertEquals(2, Jobs.DESTROYED.get());
+    }
+
+    @Test
+    public void testNullReturnValue() throws Exception {
+        Jobs.DESTROYED.set(0);
+        Jobs.stage = null;
+        createInvoker("#run").invokeAsync(null).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(1, Jobs.DESTROYED.get());
+        createInvoker("#uni").invokeAsync(null).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(2, Jobs.DESTROYED.get());
+    }
+
+    @Test
+    public void testDependentInstanceDestroyedWhenMethodThrows() {
+        Jobs.DESTROYED.set(0);
+        IllegalStateException failure = new IllegalStateException("Scheduled method failed");
+        Jobs.failure = failure;
+        try {
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> createInvoker("#run").invoke(null)));
+            assertEquals(1, Jobs.DESTROYED.get());
+        } finally {
+            Jobs.failure = null;
+        }
+    }
+
+    private ScheduledInvoker createInvoker(String suffix) {
+        for (ScheduledMethodMetadata method : context.getScheduledMethods()) {
+            if (method.getMethodDescription().endsWith(suffix)) {
+                return context.createInvoker(method.getInvokerClassName());
+            }
+        }
+        throw new AssertionError("Scheduled method not found");
+    }
+
+    @Dependent
+    static class Jobs {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        static volatile CompletableFuture<Void> stage;
+
+        static volatile RuntimeException failure;
+
+        // The methods are only invoked by the test
+        @Scheduled(every = "1h", delayed = "1h")
+        CompletionStage<Void> run() {
+            if (failure != null) {
+                throw failure;
+            }
+            return stage;
+        }
+
+        @Scheduled(every = "1h", delayed = "1h")
+        Uni<Void> uni() {
+            return null;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+}
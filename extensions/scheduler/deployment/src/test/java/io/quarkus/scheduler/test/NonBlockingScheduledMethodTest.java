@@ -0,0 +1,78 @@
+package io.quarkus.scheduler.test;
+
+import static io.quarkus.scheduler.Scheduled.ConcurrentExecution.SKIP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+public class NonBlockingScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        assertTrue(Jobs.UNI_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.UNI_ON_EVENT_LOOP.get());
+        // Wait until Jobs#nonconcurrent() is executed 1x and skipped 1x
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        // The stage returned from the first execution is not completed yet
+        assertEquals(1, Jobs.COUNTER.get());
+        assertTrue(Jobs.STAGE_ON_EVENT_LOOP.get());
+        Jobs.STAGE.complete(null);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch UNI_LATCH = new CountDownLatch(2);
+        static final AtomicBoolean UNI_ON_EVENT_LOOP = new AtomicBoolean(true);
+
+        static final CompletableFuture<Void> STAGE = new CompletableFuture<>();
+        static final AtomicInteger COUNTER = new AtomicInteger(0);
+        static final AtomicBoolean STAGE_ON_EVENT_LOOP = new AtomicBoolean();
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+
+        @Scheduled(every = "0.5s")
+        Uni<Void> uni() {
+            return Uni.createFrom().item(() -> {
+                if (!Context.isOnEventLoopThread()) {
+                    UNI_ON_EVENT_LOOP.set(false);
+                }
+                UNI_LATCH.countDown();
+                return null;
+            });
+        }
+
+        @Scheduled(every = "0.5s", concurrentExecution = SKIP)
+        CompletionStage<Void> nonconcurrent() {
+            COUNTER.incrementAndGet();
+            STAGE_ON_EVENT_LOOP.set(Context.isOnEventLoopThread());
+            return STAGE;
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            SKIPPED_LATCH.countDown();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.test;
+
+import static io.quarkus.scheduler.Scheduled.ConcurrentExecution.SKIP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.ScheduledMethodMetrics;
+import io.quarkus.scheduler.runtime.SchedulerMetrics;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SchedulerMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true"), "application.properties"));
+
+    @Inject
+    SchedulerMetrics schedulerMetrics;
+
+    @Test
+    public void testMetrics() throws InterruptedException {
+        assertTrue(Jobs.SUCCEED_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.FAIL_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.BLOCKED_LATCH.await(5, TimeUnit.SECONDS));
+
+        ScheduledMethodMetrics succeed = schedulerMetrics.getMetrics(Jobs.class.getName() + "#succeed");
+        ScheduledMethodMetrics fail = schedulerMetrics.getMetrics(Jobs.class.getName() + "#fail");
+        ScheduledMethodMetrics block = schedulerMetrics.getMetrics(Jobs.class.getName() + "#block");
+        // The counters are updated after the method returns
+        long end = System.currentTimeMillis() + 5000;
+        while ((succeed.getSuccessfulCount() < 2 || fail.getFailedCount() < 2 || block.getSkippedCount() < 1)
+                && System.currentTimeMillis() < end) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertTrue(succeed.getSuccessfulCount() >= 2);
+        assertEquals(0, succeed.getFailedCount());
+        assertTrue(fail.getFailedCount() >= 2);
+        assertEquals(0, fail.getSuccessfulCount());
+        assertTrue(block.getSkippedCount() >= 1);
+        Jobs.UNBLOCK_LATCH.countDown();
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SUCCEED_LATCH = new CountDownLatch(2);
+        static final CountDownLatch FAIL_LATCH = new CountDownLatch(2);
+        static final CountDownLatch BLOCKED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch UNBLOCK_LATCH = new CountDownLatch(1);
+
+        @Scheduled(every = "0.2s")
+        void succeed() {
+            SUCCEED_LATCH.countDown();
+        }
+
+        @Scheduled(every = "0.2s")
+        void fail() {
+            FAIL_LATCH.countDown();
+            throw new IllegalStateException("Expected failure");
+        }
+
+        @Scheduled(every = "0.2s", concurrentExecution = SKIP)
+        void block() throws InterruptedException {
+            BLOCKED_LATCH.countDown();
+            UNBLOCK_LATCH.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
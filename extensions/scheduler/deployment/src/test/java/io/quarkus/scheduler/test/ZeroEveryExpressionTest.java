@@ -0,0 +1,33 @@
+package io.quarkus.scheduler.test;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ZeroEveryExpressionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(DeploymentException.class)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ZeroEveryExpressionTest.InvalidBean.class));
+
+    @Test
+    public void test() throws InterruptedException {
+    }
+
+    static class InvalidBean {
+
+        @Scheduled(every = "0s")
+        void wrong() {
+        }
+
+    }
+
+}
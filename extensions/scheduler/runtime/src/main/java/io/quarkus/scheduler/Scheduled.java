@@ -29,8 +29,9 @@ import io.quarkus.scheduler.Scheduled.Schedules;
  * }
  * </pre>
  *
- * The annotated method must return {@code void} and either declare no parameters or one parameter of type
- * {@link ScheduledExecution}.
+ * The annotated method must return {@code void}, {@code Uni<Void>} or {@code CompletionStage<Void>} and either declare no
+ * parameters or one parameter of type {@link ScheduledExecution}. A method that returns {@code Uni<Void>} or
+ * {@code CompletionStage<Void>} is considered non-blocking and is executed on a Vert.x event loop thread.
  *
  * @author Martin Kouba
  * @see ScheduledExecution
@@ -0,0 +1,68 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * A scheduled invoker wrapper that records the trigger lag, the execution duration and the outcome of each execution.
+ * <p>
+ * The duration of a non-blocking execution is measured until the stage returned from
+ * {@link ScheduledInvoker#invokeAsync(ScheduledExecution)} completes.
+ * 
+ * @see ScheduledMethodMetrics
+ */
+public final class InstrumentedInvoker implements ScheduledInvoker {
+
+    private final ScheduledInvoker delegate;
+    private final ScheduledMethodMetrics metrics;
+
+    public InstrumentedInvoker(ScheduledInvoker delegate, ScheduledMethodMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void invoke(ScheduledExecution execution) {
+        metrics.recordLag(execution);
+        long start = System.nanoTime();
+        try {
+            delegate.invoke(execution);
+        } catch (Throwable t) {
+            metrics.recordFailure(start);
+            throw t;
+        }
+        metrics.recordSuccess(start);
+    }
+
+    @Override
+    public CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+        metrics.recordLag(execution);
+        long start = System.nanoTime();
+        CompletionStage<Void> stage;
+        try {
+            stage = delegate.invokeAsync(execution);
+        } catch (Throwable t) {
+            metrics.recordFailure(start);
+            throw t;
+        }
+        return stage.whenComplete((r, t) -> {
+            if (t != null) {
+                metrics.recordFailure(start);
+            } else {
+                metrics.recordSuccess(start);
+            }
+        });
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return delegate.isBlocking();
+    }
+
+    @Override
+    public void invokeBean(ScheduledExecution param) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -1,5 +1,11 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanInvoker;
 import io.quarkus.scheduler.ScheduledExecution;
 
@@ -8,4 +14,55 @@ import io.quarkus.scheduler.ScheduledExecution;
  */
 public interface ScheduledInvoker extends BeanInvoker<ScheduledExecution> {
 
+    /**
+     * A blocking invoker is executed on a worker thread. A non-blocking invoker, i.e. an invoker of a method that returns
+     * {@code Uni<Void>} or {@code CompletionStage<Void>}, is executed on a Vert.x event loop via
+     * {@link #invokeAsync(ScheduledExecution)}. If a non-blocking invoker is executed via {@link #invoke(Object)} the
+     * calling thread is blocked until the asynchronous action of the business method completes.
+     * 
+     * @return {@code true} if the scheduled business method is blocking
+     */
+    default boolean isBlocking() {
+        return true;
+    }
+
+    /**
+     * Invokes the business method. The request context is activated if necessary and destroyed when the returned stage
+     * completes.
+     * 
+     * @param execution
+     * @return the stage that is completed when the asynchronous action of the business method completes
+     */
+    default CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return invokeBeanAsync(execution);
+        }
+        requestContext.activate();
+        ContextState state = requestContext.getState();
+        CompletionStage<Void> stage;
+        try {
+            stage = invokeBeanAsync(execution);
+        } catch (Throwable t) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            stage = failed;
+        } finally {
+            // The context may be destroyed on a different thread
+            requestContext.deactivate();
+        }
+        return stage.whenComplete((r, t) -> requestContext.destroy(state));
+    }
+
+    /**
+     * The default implementation invokes the blocking business method and returns a completed stage.
+     * 
+     * @param execution
+     * @return the stage that is completed when the asynchronous action of the business method completes
+     */
+    default CompletionStage<Void> invokeBeanAsync(ScheduledExecution execution) {
+        invokeBean(execution);
+        return CompletableFuture.completedFuture(null);
+    }
+
 }
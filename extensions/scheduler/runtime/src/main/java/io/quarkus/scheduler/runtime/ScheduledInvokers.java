@@ -0,0 +1,59 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * Static helpers used by the generated invokers of non-blocking scheduled business methods.
+ */
+public final class ScheduledInvokers {
+
+    private ScheduledInvokers() {
+    }
+
+    /**
+     * A business method that returns {@code null} is considered to have completed its asynchronous action.
+     * 
+     * @param stage
+     * @return the given stage or a completed stage if the given stage is {@code null}
+     */
+    public static CompletionStage<Void> completedIfNull(CompletionStage<Void> stage) {
+        return stage != null ? stage : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 
+     * @param stage
+     * @param handle
+     * @return a stage that is completed after the dependent instance is destroyed
+     */
+    public static CompletionStage<Void> destroyWhenComplete(CompletionStage<Void> stage, InstanceHandle<?> handle) {
+        return stage.whenComplete((r, t) -> handle.destroy());
+    }
+
+    /**
+     * Blocks the current thread until the stage is completed.
+     * 
+     * @param stage
+     */
+    public static void await(CompletionStage<Void> stage) {
+        try {
+            stage.toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * The metrics of a single scheduled business method.
+ * <p>
+ * The counters are always updated. The time recorders are no-op until the metrics are registered in a metrics factory.
+ */
+public class ScheduledMethodMetrics {
+
+    private static final TimeRecorder NOOP = (amount, unit) -> {
+    };
+
+    private final String methodDescription;
+    private final LongAdder successful;
+    private final LongAdder failed;
+    private final LongAdder skipped;
+    private volatile TimeRecorder durationRecorder;
+    private volatile TimeRecorder lagRecorder;
+
+    ScheduledMethodMetrics(String methodDescription) {
+        this.methodDescription = methodDescription;
+        this.successful = new LongAdder();
+        this.failed = new LongAdder();
+        this.skipped = new LongAdder();
+        this.durationRecorder = NOOP;
+        this.lagRecorder = NOOP;
+    }
+
+    public String getMethodDescription() {
+        return methodDescription;
+    }
+
+    /**
+     * 
+     * @return the number of executions that completed successfully
+     */
+    public long getSuccessfulCount() {
+        return successful.sum();
+    }
+
+    /**
+     * 
+     * @return the number of executions that completed exceptionally
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 
+     * @return the number of executions skipped because the previous execution was still running
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    void setDurationRecorder(TimeRecorder durationRecorder) {
+        this.durationRecorder = durationRecorder;
+    }
+
+    void setLagRecorder(TimeRecorder lagRecorder) {
+        this.lagRecorder = lagRecorder;
+    }
+
+    void recordLag(ScheduledExecution execution) {
+        // A negative value is dropped by the recorder
+        lagRecorder.update(Duration.between(execution.getScheduledFireTime(), execution.getFireTime()));
+    }
+
+    void recordSuccess(long startNanos) {
+        durationRecorder.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        successful.increment();
+    }
+
+    void recordFailure(long startNanos) {
+        durationRecorder.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        failed.increment();
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+}
@@ -18,4 +18,13 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * Whether or not the scheduler metrics are published in case a metrics extension is present.
+     * <p>
+     * The trigger lag, the execution duration and the number of successful, failed and skipped executions are recorded for
+     * each scheduled business method.
+     */
+    @ConfigItem(name = "metrics.enabled")
+    public boolean metricsEnabled;
+
 }
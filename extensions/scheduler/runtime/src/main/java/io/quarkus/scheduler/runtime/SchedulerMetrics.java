@@ -0,0 +1,48 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import io.quarkus.scheduler.SkippedExecution;
+
+/**
+ * Holds the metrics of all scheduled business methods.
+ * <p>
+ * This bean is only registered if the scheduler metrics are enabled.
+ */
+@Singleton
+public class SchedulerMetrics {
+
+    // method description -> metrics
+    private final ConcurrentMap<String, ScheduledMethodMetrics> methods = new ConcurrentHashMap<>();
+    // trigger id -> metrics
+    private final ConcurrentMap<String, ScheduledMethodMetrics> triggers = new ConcurrentHashMap<>();
+
+    /**
+     * 
+     * @param methodDescription
+     * @param triggerId the id of the trigger that is used in {@link SkippedExecution#triggerId}
+     * @param invoker
+     * @return the instrumented invoker
+     */
+    public ScheduledInvoker instrument(String methodDescription, String triggerId, ScheduledInvoker invoker) {
+        ScheduledMethodMetrics metrics = getMetrics(methodDescription);
+        triggers.put(triggerId, metrics);
+        return new InstrumentedInvoker(invoker, metrics);
+    }
+
+    public ScheduledMethodMetrics getMetrics(String methodDescription) {
+        return methods.computeIfAbsent(methodDescription, ScheduledMethodMetrics::new);
+    }
+
+    void onSkippedExecution(@Observes SkippedExecution event) {
+        ScheduledMethodMetrics metrics = triggers.get(event.triggerId);
+        if (metrics != null) {
+            metrics.recordSkipped();
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * This recorder is invoked IFF the scheduler metrics are enabled.
+ */
+@Recorder
+public class SchedulerMetricsRecorder {
+
+    private static final String METHOD_TAG_NAME = "method";
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics(List<String> methodDescriptions) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                SchedulerMetrics schedulerMetrics = Arc.container().instance(SchedulerMetrics.class).get();
+                for (String methodDescription : methodDescriptions) {
+                    registerMetrics(metricsFactory, schedulerMetrics.getMetrics(methodDescription));
+                }
+            }
+        };
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory, ScheduledMethodMetrics metrics) {
+        String method = metrics.getMethodDescription();
+        metricsFactory.builder("scheduler.executions.successful")
+                .description("The number of executions of a scheduled method that completed successfully")
+                .tag(METHOD_TAG_NAME, method)
+                .buildCounter(metrics, ScheduledMethodMetrics::getSuccessfulCount);
+        metricsFactory.builder("scheduler.executions.failed")
+                .description("The number of executions of a scheduled method that completed exceptionally")
+                .tag(METHOD_TAG_NAME, method)
+                .buildCounter(metrics, ScheduledMethodMetrics::getFailedCount);
+        metricsFactory.builder("scheduler.executions.skipped")
+                .description("The number of executions of a scheduled method that were skipped because the previous "
+                        + "execution was still running")
+                .tag(METHOD_TAG_NAME, method)
+                .buildCounter(metrics, ScheduledMethodMetrics::getSkippedCount);
+
+        metrics.setDurationRecorder(metricsFactory.builder("scheduler.execution.duration")
+                .description("The time spent executing a scheduled method")
+                .tag(METHOD_TAG_NAME, method)
+                .unit("nanoseconds")
+                .buildTimer());
+        metrics.setLagRecorder(metricsFactory.builder("scheduler.trigger.lag")
+                .description("The delay between the scheduled fire time of a trigger and the actual fire time")
+                .tag(METHOD_TAG_NAME, method)
+                .unit("nanoseconds")
+                .buildTimer());
+    }
+}
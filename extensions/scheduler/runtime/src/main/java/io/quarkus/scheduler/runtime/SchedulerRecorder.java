@@ -7,11 +7,12 @@ import java.util.function.Supplier;
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Vertx;
 
 @Recorder
 public class SchedulerRecorder {
 
-    public Supplier<Object> createContext(SchedulerConfig config, ExecutorService executorService,
+    public Supplier<Object> createContext(SchedulerConfig config, ExecutorService executorService, Supplier<Vertx> vertx,
             List<ScheduledMethodMetadata> scheduledMethods) {
         return new Supplier<Object>() {
             @Override
@@ -23,6 +24,11 @@ public class SchedulerRecorder {
                         return executorService;
                     }
 
+                    @Override
+                    public Vertx getVertx() {
+                        return vertx.get();
+                    }
+
                     @Override
                     public CronType getCronType() {
                         return config.cronType;
@@ -2,7 +2,6 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -17,6 +16,7 @@ import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
@@ -39,6 +39,7 @@ import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.Trigger;
+import io.vertx.core.Vertx;
 
 @Typed(Scheduler.class)
 @Singleton
@@ -46,21 +47,20 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
+    private final SchedulerContext context;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final boolean enabled;
 
     public SimpleScheduler(SchedulerContext context, Config config, SchedulerRuntimeConfig schedulerRuntimeConfig,
-            Event<SkippedExecution> skippedExecutionEvent) {
+            Event<SkippedExecution> skippedExecutionEvent, Instance<SchedulerMetrics> schedulerMetrics) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
         this.executor = context.getExecutor();
+        this.context = context;
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
@@ -78,6 +78,8 @@ public class SimpleScheduler implements Scheduler {
 
             CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(context.getCronType());
             CronParser parser = new CronParser(definition);
+            // The metrics bean is only registered if the scheduler metrics are enabled
+            SchedulerMetrics metrics = schedulerMetrics.isResolvable() ? schedulerMetrics.get() : null;
 
             for (ScheduledMethodMetadata method : context.getScheduledMethods()) {
                 int nameSequence = 0;
@@ -86,6 +88,9 @@ public class SimpleScheduler implements Scheduler {
                     SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled, nameSequence,
                             config);
                     ScheduledInvoker invoker = context.createInvoker(method.getInvokerClassName());
+                    if (metrics != null) {
+                        invoker = metrics.instrument(method.getMethodDescription(), trigger.getId(), invoker);
+                    }
                     if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
                         invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
                     }
@@ -100,12 +105,12 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        // Each task is scheduled to wake up exactly at its next fire time. The delay queue of the scheduled executor is a
+        // priority queue so that scheduling a task is O(log n) and there's no periodic scan of all the triggers.
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            task.schedule(task.trigger.init(now), now);
+        }
     }
 
     @PreDestroy
@@ -119,16 +124,6 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor);
-        }
-    }
-
     @Override
     public void pause() {
         if (!enabled) {
@@ -181,7 +176,13 @@ public class SimpleScheduler implements Scheduler {
             }
             return new CronTrigger(id, start, cronExpr);
         } else if (!scheduled.every().isEmpty()) {
-            return new IntervalTrigger(id, start, Math.abs(parseDuration(scheduled, scheduled.every(), "every").toMillis()));
+            long interval = Math.abs(parseDuration(scheduled, scheduled.every(), "every").toMillis());
+            if (interval == 0) {
+                // A config-based expression is not validated at build time
+                throw new IllegalStateException(
+                        "Invalid every() expression on: " + scheduled + " - the interval must be at least one millisecond");
+            }
+            return new IntervalTrigger(id, start, interval);
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -205,7 +206,7 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    static class ScheduledTask {
+    class ScheduledTask implements Runnable {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
@@ -215,25 +216,82 @@ public class SimpleScheduler implements Scheduler {
             this.invoker = invoker;
         }
 
-        void execute(ZonedDateTime now, ExecutorService executor) {
-            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
-            if (scheduledFireTime != null) {
+        @Override
+        public void run() {
+            ZonedDateTime now = ZonedDateTime.now();
+            ZonedDateTime scheduledFireTime = null;
+            try {
+                scheduledFireTime = trigger.fire(now);
+                if (running) {
+                    execute(now, scheduledFireTime);
+                } else {
+                    LOGGER.tracef("Skip trigger %s - scheduler paused", trigger);
+                }
+            } catch (Throwable t) {
+                LOGGER.errorf(t, "Error occured while firing trigger %s", trigger);
+            } finally {
+                // The next execution must be scheduled no matter what, otherwise the trigger would never fire again
+                ZonedDateTime nextFireTime = trigger.getNextFireDateTime();
+                if (scheduledFireTime == null && nextFireTime != null && !nextFireTime.isAfter(now)) {
+                    // The trigger failed to compute its next fire time - try again later instead of spinning
+                    nextFireTime = now.plusSeconds(1);
+                }
+                schedule(nextFireTime, now);
+            }
+        }
+
+        void schedule(ZonedDateTime nextFireTime, ZonedDateTime now) {
+            if (nextFireTime == null) {
+                LOGGER.debugf("Trigger %s will not fire again", trigger);
+                return;
+            }
+            try {
+                scheduledExecutor.schedule(this, Math.max(0, ChronoUnit.MILLIS.between(now, nextFireTime)),
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler is being stopped
+                LOGGER.debugf("Unable to schedule the next execution of trigger %s", trigger);
+            }
+        }
+
+        void execute(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+            SimpleScheduledExecution execution = new SimpleScheduledExecution(now, scheduledFireTime, trigger);
+            if (!invoker.isBlocking()) {
+                executeNonBlocking(execution);
+                return;
+            }
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            invoker.invoke(execution);
+                        } catch (Throwable t) {
+                            LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
+                        }
+                    }
+                });
+                LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
+            }
+        }
+
+        void executeNonBlocking(SimpleScheduledExecution execution) {
+            // A non-Vert.x thread always gets a new context bound to one of the event loops
+            Vertx vertx = context.getVertx();
+            vertx.getOrCreateContext().runOnContext(v -> {
                 try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
-                            }
+                    invoker.invokeAsync(execution).whenComplete((r, t) -> {
+                        if (t != null) {
+                            LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
                         }
                     });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
+                } catch (Throwable t) {
+                    LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
                 }
-            }
+            });
+            LOGGER.debugf("Executing non-blocking scheduled task for trigger %s", trigger);
         }
 
     }
@@ -242,29 +300,69 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        private volatile ZonedDateTime lastFireTime;
+        private volatile ZonedDateTime nextFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
             this.start = start;
         }
 
+        /**
+         * 
+         * @param lastFireTime the scheduled time of the last execution, {@code null} if the trigger has not fired yet
+         * @param now
+         * @return the next time at which the trigger should fire, {@code null} if it will not fire again
+         */
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now);
+
+        /**
+         * 
+         * @param now
+         * @return the first time at which the trigger should fire
+         */
+        ZonedDateTime init(ZonedDateTime now) {
+            nextFireTime = computeNextFireTime(null, now);
+            return nextFireTime;
+        }
+
         /**
          * 
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the scheduled time of the current execution
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        ZonedDateTime fire(ZonedDateTime now) {
+            ZonedDateTime scheduledFireTime = nextFireTime;
+            lastFireTime = scheduledFireTime;
+            nextFireTime = computeNextFireTime(scheduledFireTime, now);
+            return scheduledFireTime;
+        }
+
+        ZonedDateTime getNextFireDateTime() {
+            return nextFireTime;
+        }
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
@@ -272,31 +370,14 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now) {
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
-            }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
+                return now.isBefore(start) ? start : now;
             }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            ZonedDateTime next = lastFireTime.plus(Duration.ofMillis(interval));
+            // If the trigger is late then fire as soon as possible but do not try to catch up with the missed executions
+            return next.isBefore(now) ? now : next;
         }
 
         @Override
@@ -310,8 +391,8 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
+        // A missed execution is only fired if it's not older than this threshold
+        private static final Duration MISFIRE_THRESHOLD = Duration.ofSeconds(1);
 
         private final Cron cron;
         private final ExecutionTime executionTime;
@@ -323,35 +404,21 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now) {
+            ZonedDateTime from;
+            if (lastFireTime != null) {
+                from = lastFireTime;
+            } else if (now.isBefore(start)) {
+                // The next execution is computed strictly after the given time and the start time should be included
+                from = start.minusSeconds(1);
+            } else {
+                from = now;
             }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
+            Optional<ZonedDateTime> next = executionTime.nextExecution(from);
+            if (next.isPresent() && next.get().isBefore(now.minus(MISFIRE_THRESHOLD))) {
+                next = executionTime.nextExecution(now);
             }
-            return null;
+            return next.orElse(null);
         }
 
         @Override
@@ -1,5 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.enterprise.event.Event;
@@ -12,6 +14,9 @@ import io.quarkus.scheduler.SkippedExecution;
 
 /**
  * A scheduled invoker wrapper that skips concurrent executions.
+ * <p>
+ * An execution of a non-blocking invoker is considered running until the stage returned from
+ * {@link ScheduledInvoker#invokeAsync(ScheduledExecution)} completes.
  * 
  * @see Scheduled#concurrentExecution()
  * @see io.quarkus.scheduler.Scheduled.ConcurrentExecution#SKIP
@@ -39,13 +44,39 @@ public final class SkipConcurrentExecutionInvoker implements ScheduledInvoker {
                 running.set(false);
             }
         } else {
-            LOGGER.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
-            SkippedExecution payload = new SkippedExecution(execution.getTrigger().getId(), execution.getFireTime());
-            event.fire(payload);
-            event.fireAsync(payload);
+            skip(execution);
         }
     }
 
+    @Override
+    public CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+        if (running.compareAndSet(false, true)) {
+            CompletionStage<Void> stage;
+            try {
+                stage = delegate.invokeAsync(execution);
+            } catch (Throwable t) {
+                running.set(false);
+                throw t;
+            }
+            return stage.whenComplete((r, t) -> running.set(false));
+        } else {
+            skip(execution);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return delegate.isBlocking();
+    }
+
+    private void skip(ScheduledExecution execution) {
+        LOGGER.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
+        SkippedExecution payload = new SkippedExecution(execution.getTrigger().getId(), execution.getFireTime());
+        event.fire(payload);
+        event.fireAsync(payload);
+    }
+
     @Override
     public void invokeBean(ScheduledExecution param) {
         throw new UnsupportedOperationException();
@@ -3,16 +3,24 @@ package io.quarkus.vertx.http.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -23,9 +31,16 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.StaticResourceInfo;
+import io.quarkus.vertx.http.runtime.StaticResourcesConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
@@ -62,9 +77,17 @@ public class StaticResourcesProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     public void staticInit(Optional<StaticResourcesBuildItem> staticResources,
-            StaticResourcesRecorder recorder) throws Exception {
+            StaticResourcesRecorder recorder, HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws Exception {
         if (staticResources.isPresent()) {
-            recorder.staticInit(staticResources.get().getPaths());
+            List<StaticResourceInfo> inMemory;
+            if (httpBuildTimeConfig.staticResources.inMemory && launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT) {
+                inMemory = indexInMemoryResources(staticResources.get().getPaths(), httpBuildTimeConfig.staticResources,
+                        generatedResources);
+            } else {
+                inMemory = Collections.emptyList();
+            }
+            recorder.staticInit(staticResources.get().getPaths(), inMemory);
         }
     }
 
@@ -78,6 +101,91 @@ public class StaticResourcesProcessor {
         }
     }
 
+    /**
+     * Reads the static resources that should be served from memory, and creates the compressed version of the text
+     * based ones.
+     */
+    private List<StaticResourceInfo> indexInMemoryResources(Set<String> knownPaths, StaticResourcesConfig config,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws IOException {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        long maxSize = config.maxInMemorySize.asLongValue();
+        List<StaticResourceInfo> result = new ArrayList<>();
+        //a directory and its index page share the same compressed resource
+        Set<String> generated = new HashSet<>();
+        for (String path : knownPaths) {
+            //the index page is served for directories
+            String resourceName = path.endsWith("/") ? path + "index.html" : path;
+            byte[] data = readResource(cl, StaticResourcesRecorder.META_INF_RESOURCES + resourceName, maxSize);
+            if (data == null) {
+                continue;
+            }
+            String contentType = MimeMapping.getMimeTypeForFilename(resourceName);
+            if (contentType == null) {
+                contentType = "application/octet-stream";
+            } else if (contentType.startsWith("text")) {
+                contentType += ";charset=UTF-8";
+            }
+            String compressedResourceName = null;
+            if (config.compress && isCompressible(contentType)) {
+                byte[] gzipped = gzip(data);
+                if (gzipped.length < data.length) {
+                    compressedResourceName = StaticResourcesRecorder.COMPRESSED_RESOURCES + resourceName + ".gz";
+                    if (generated.add(compressedResourceName)) {
+                        generatedResources.produce(new GeneratedResourceBuildItem(compressedResourceName, gzipped));
+                    }
+                }
+            }
+            result.add(new StaticResourceInfo(path, resourceName, contentType, etag(data), compressedResourceName));
+        }
+        return result;
+    }
+
+    private static byte[] readResource(ClassLoader cl, String name, long maxSize) throws IOException {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+                if (out.size() > maxSize) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/")
+                || contentType.startsWith("application/javascript")
+                || contentType.startsWith("application/json")
+                || contentType.startsWith("application/xml")
+                || contentType.startsWith("image/svg+xml");
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            StringBuilder sb = new StringBuilder("\"");
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(data)) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
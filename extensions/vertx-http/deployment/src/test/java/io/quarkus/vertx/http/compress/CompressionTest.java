@@ -0,0 +1,143 @@
+package io.quarkus.vertx.http.compress;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class CompressionTest {
+
+    private static final String LARGE_BODY = buildLargeBody();
+
+    @TestHTTPResource(value = "/", ssl = false)
+    URL url;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n"
+                            + "quarkus.http.compression.min-response-size=100"), "application.properties"));
+
+    @Test
+    public void testLargeResponseIsCompressed() {
+        given().header("Accept-Encoding", "gzip").get("/large")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(LARGE_BODY));
+    }
+
+    @Test
+    public void testSmallResponseIsNotCompressed() {
+        given().header("Accept-Encoding", "gzip").get("/small")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo("{}"));
+    }
+
+    @Test
+    public void testOtherMediaTypeIsNotCompressed() {
+        given().header("Accept-Encoding", "gzip").get("/binary")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue());
+    }
+
+    @Test
+    public void testCompressionCanBeDisabledForARoute() {
+        given().header("Accept-Encoding", "gzip").get("/uncompressed")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(LARGE_BODY));
+    }
+
+    @Test
+    public void testHttp2() throws Exception {
+        HttpResponse<Buffer> large = getHttp2("/large");
+        Assertions.assertEquals(HttpVersion.HTTP_2, large.version());
+        Assertions.assertEquals(200, large.statusCode());
+        Assertions.assertEquals("gzip", large.getHeader("Content-Encoding"));
+
+        HttpResponse<Buffer> small = getHttp2("/small");
+        Assertions.assertEquals(200, small.statusCode());
+        Assertions.assertNull(small.getHeader("Content-Encoding"));
+        Assertions.assertEquals("{}", small.bodyAsString());
+
+        HttpResponse<Buffer> uncompressed = getHttp2("/uncompressed");
+        Assertions.assertEquals(200, uncompressed.statusCode());
+        Assertions.assertNull(uncompressed.getHeader("Content-Encoding"));
+        Assertions.assertEquals(LARGE_BODY, uncompressed.bodyAsString());
+    }
+
+    private HttpResponse<Buffer> getHttp2(String path) throws Exception {
+        WebClientOptions options = new WebClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(true);
+        WebClient client = WebClient.create(VertxCoreRecorder.getVertx().get(), options);
+        try {
+            CompletableFuture<HttpResponse<Buffer>> result = new CompletableFuture<>();
+            client.get(url.getPort(), "localhost", path)
+                    .putHeader("Accept-Encoding", "gzip")
+                    .send(ar -> {
+                        if (ar.succeeded()) {
+                            result.complete(ar.result());
+                        } else {
+                            result.completeExceptionally(ar.cause());
+                        }
+                    });
+            return result.get(10, TimeUnit.SECONDS);
+        } finally {
+            client.close();
+        }
+    }
+
+    private static String buildLargeBody() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"value\":").append(i).append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        public void register(@Observes Router router) {
+            router.route("/large").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .end(LARGE_BODY));
+            router.route("/small").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .end("{}"));
+            router.route("/binary").handler(rc -> rc.response().putHeader("Content-Type", "application/octet-stream")
+                    .end(LARGE_BODY));
+            router.route("/uncompressed").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .putHeader("Content-Encoding", "identity")
+                    .end(LARGE_BODY));
+        }
+
+    }
+}
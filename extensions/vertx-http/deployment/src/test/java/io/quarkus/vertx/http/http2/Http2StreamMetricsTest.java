@@ -0,0 +1,111 @@
+package io.quarkus.vertx.http.http2;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.quarkus.vertx.http.runtime.filters.Http2StreamMetricsFilter;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class Http2StreamMetricsTest {
+
+    @TestHTTPResource(value = "/", ssl = false)
+    URL url;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyBean.class)
+                    .addAsResource(new StringAsset("quarkus.http.http2-metrics.enabled=true\n"
+                            + "quarkus.http.limits.max-concurrent-streams=50\n"
+                            + "quarkus.http.limits.max-frame-size=32768\n"
+                            + "quarkus.http.http2-initial-window-size=131072"), "application.properties"));
+
+    @Test
+    public void testSettings() throws Exception {
+        Assertions.assertEquals("50:32768:131072", get("/settings"));
+    }
+
+    @Test
+    public void testStreamsReleased() throws Exception {
+        Http2StreamMetricsFilter metrics = VertxHttpRecorder.getHttp2StreamMetrics();
+        awaitNoActiveStreams(metrics);
+        long total = metrics.getTotalStreams();
+        // The stream of the request itself is in progress
+        Assertions.assertEquals("1:1:1", get("/streams"));
+        Assertions.assertEquals("1:1:1", get("/streams"));
+        Assertions.assertEquals(total + 2, metrics.getTotalStreams());
+
+        // The streams are released once the responses have been sent
+        awaitNoActiveStreams(metrics);
+        Assertions.assertEquals(0, metrics.getActiveStreams());
+        Assertions.assertEquals(0, metrics.getActiveConnections());
+        Assertions.assertEquals(0, metrics.getMaxActiveStreamsPerConnection());
+    }
+
+    private static void awaitNoActiveStreams(Http2StreamMetricsFilter metrics) throws InterruptedException {
+        long end = System.currentTimeMillis() + 5000;
+        while (metrics.getActiveStreams() != 0 && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+    }
+
+    private String get(String path) throws InterruptedException, ExecutionException, TimeoutException {
+        WebClientOptions options = new WebClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(true);
+        WebClient client = WebClient.create(VertxCoreRecorder.getVertx().get(), options);
+        try {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            client.get(url.getPort(), "localhost", path)
+                    .send(ar -> {
+                        if (ar.succeeded()) {
+                            result.complete(ar.result().bodyAsString());
+                        } else {
+                            result.completeExceptionally(ar.cause());
+                        }
+                    });
+            return result.get(10, TimeUnit.SECONDS);
+        } finally {
+            client.close();
+        }
+    }
+
+    @ApplicationScoped
+    static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.get("/settings").handler(rc -> {
+                Http2Settings settings = rc.request().connection().settings();
+                rc.response().end(settings.getMaxConcurrentStreams() + ":" + settings.getMaxFrameSize() + ":"
+                        + settings.getInitialWindowSize());
+            });
+            router.get("/streams").handler(rc -> {
+                Http2StreamMetricsFilter metrics = VertxHttpRecorder.getHttp2StreamMetrics();
+                rc.response().end(metrics.getActiveStreams() + ":" + metrics.getActiveConnections() + ":"
+                        + metrics.getMaxActiveStreamsPerConnection());
+            });
+        }
+
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.vertx.http.staticresources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class InMemoryStaticResourcesTest {
+
+    private static final String SCRIPT = buildScript();
+    private static final String PAGE = "<html><script>" + SCRIPT + "</script></html>";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("<html>index</html>"), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/js/app.js")
+                    .addAsResource(new StringAsset(PAGE), "META-INF/resources/docs/index.html")
+                    .addAsResource(new StringAsset("quarkus.http.static-resources.in-memory=true"),
+                            "application.properties"));
+
+    @Test
+    public void testIndexPage() {
+        RestAssured.get("/")
+                .then().statusCode(200)
+                .header("Content-Type", startsWith("text/html"))
+                .header("ETag", notNullValue())
+                .header("Cache-Control", "public, max-age=86400")
+                .header("Last-Modified", endsWith(" GMT"))
+                .body(equalTo("<html>index</html>"));
+    }
+
+    @Test
+    public void testCompressedVariant() {
+        given().header("Accept-Encoding", "gzip").get("/js/app.js")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(SCRIPT));
+        given().header("Accept-Encoding", "identity").get("/js/app.js")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", String.valueOf(SCRIPT.length()))
+                .body(equalTo(SCRIPT));
+    }
+
+    @Test
+    public void testAcceptEncodingPrecedence() {
+        given().header("Accept-Encoding", "*").get("/js/app.js")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip");
+        given().header("Accept-Encoding", "*, gzip;q=0").get("/js/app.js")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(SCRIPT));
+        given().header("Accept-Encoding", "gzip;q=0.5, *;q=0").get("/js/app.js")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    public void testCompressedIndexPage() {
+        given().header("Accept-Encoding", "gzip").get("/docs/")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(PAGE));
+        given().header("Accept-Encoding", "gzip").get("/docs/index.html")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(PAGE));
+    }
+
+    @Test
+    public void testNotModified() {
+        String etag = given().header("Accept-Encoding", "identity").get("/js/app.js").header("ETag");
+        given().header("Accept-Encoding", "identity").header("If-None-Match", etag).get("/js/app.js")
+                .then().statusCode(304);
+        given().header("Accept-Encoding", "identity").header("If-None-Match", "\"other\", " + etag).get("/js/app.js")
+                .then().statusCode(304);
+        given().header("Accept-Encoding", "identity").header("If-None-Match", "W/" + etag).get("/js/app.js")
+                .then().statusCode(304);
+        given().header("Accept-Encoding", "identity").header("If-None-Match", "*").get("/js/app.js")
+                .then().statusCode(304);
+        given().header("Accept-Encoding", "identity").header("If-None-Match", "\"other\", W/\"another\"")
+                .get("/js/app.js")
+                .then().statusCode(200)
+                .body(equalTo(SCRIPT));
+    }
+
+    private static String buildScript() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("console.log('line ").append(i).append("');\n");
+        }
+        return sb.toString();
+    }
+}
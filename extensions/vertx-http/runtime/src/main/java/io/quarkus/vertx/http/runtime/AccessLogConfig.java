@@ -81,4 +81,11 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The maximum number of messages waiting to be written to the log file. If the log file cannot be written fast
+     * enough further messages are dropped, and the number of dropped messages is logged.
+     */
+    @ConfigItem(defaultValue = "100000")
+    public int maxPendingMessages;
+
 }
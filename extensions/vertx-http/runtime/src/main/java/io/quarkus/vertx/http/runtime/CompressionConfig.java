@@ -0,0 +1,45 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Response compression related settings
+ */
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * If responses should be compressed using {@code gzip} or {@code deflate}, depending on the {@code Accept-Encoding}
+     * header sent by the client.
+     * <p>
+     * Compression can be disabled for a single response by setting the {@code Content-Encoding} header of the response
+     * to {@code identity}.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (best compression).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * The minimum size of a response for it to be compressed. Responses that declare a smaller {@code Content-Length}
+     * are sent uncompressed. Chunked responses are always compressed.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minResponseSize;
+
+    /**
+     * The media types of the responses that are compressed. Responses with any other content type are sent
+     * uncompressed.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/xml,text/css,text/javascript,application/javascript,"
+            + "application/json,application/xml,image/svg+xml")
+    public List<String> mediaTypes;
+}
@@ -0,0 +1,143 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Decides if a response can be compressed by the server.
+ * <p>
+ * The actual compression is done by Vert.x, which does not compress responses that already have a
+ * {@code Content-Encoding} header. This handler sets the header to {@code identity} for responses
+ * that are too small or that do not have one of the configured media types. The header is removed again once the
+ * compressor has seen it, see {@link #removeIdentityEncoding(HttpConnection)}.
+ * <p>
+ * HTTP/2 responses are compressed by the connection encoder when they have a {@code gzip} or {@code deflate}
+ * {@code Content-Encoding} header, which Vert.x sets up front for the clients that accept it. For these responses the
+ * header is removed instead, so that no marker is needed.
+ */
+class CompressionHandler implements Handler<RoutingContext> {
+
+    private final Set<String> mediaTypes;
+    private final long minResponseSize;
+
+    CompressionHandler(CompressionConfig config) {
+        this.mediaTypes = new HashSet<>();
+        for (String mediaType : config.mediaTypes) {
+            mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+        }
+        this.minResponseSize = config.minResponseSize.asLongValue();
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        event.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                MultiMap headers = event.response().headers();
+                if (event.request().version() == HttpVersion.HTTP_2) {
+                    handleHttp2(headers);
+                    return;
+                }
+                if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+                    //either already encoded or compression was disabled for this response
+                    return;
+                }
+                if (!isCompressible(headers.get(HttpHeaderNames.CONTENT_TYPE))
+                        || isTooSmall(headers.get(HttpHeaderNames.CONTENT_LENGTH))) {
+                    headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+                }
+            }
+        });
+        event.next();
+    }
+
+    private void handleHttp2(MultiMap headers) {
+        String encoding = headers.get(HttpHeaderNames.CONTENT_ENCODING);
+        if (encoding == null) {
+            //the client does not accept a compressed response
+            return;
+        }
+        if (HttpHeaderValues.IDENTITY.contentEqualsIgnoreCase(encoding)) {
+            //compression was disabled for this response
+            headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+        } else if ((HttpHeaderValues.GZIP.contentEqualsIgnoreCase(encoding)
+                || HttpHeaderValues.DEFLATE.contentEqualsIgnoreCase(encoding))
+                && (!isCompressible(headers.get(HttpHeaderNames.CONTENT_TYPE))
+                        || isTooSmall(headers.get(HttpHeaderNames.CONTENT_LENGTH)))) {
+            headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+        }
+    }
+
+    /**
+     * Removes the {@code Content-Encoding: identity} header of the responses sent over the given connection after the
+     * compressor has skipped them, so that it is not sent to the client.
+     *
+     * @param connection The HTTP connection
+     */
+    static void removeIdentityEncoding(HttpConnection connection) {
+        ChannelPipeline pipeline = ((ConnectionBase) connection).channel().pipeline();
+        ChannelHandlerContext compressor = pipeline.context(HttpContentCompressor.class);
+        if (compressor != null && pipeline.get(IdentityEncodingRemover.class) == null) {
+            //outbound messages go through the handlers before the compressor once it is done with them
+            pipeline.addBefore(compressor.name(), "identityEncodingRemover", IdentityEncodingRemover.INSTANCE);
+        }
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int index = contentType.indexOf(';');
+        if (index != -1) {
+            contentType = contentType.substring(0, index);
+        }
+        return mediaTypes.contains(contentType.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isTooSmall(String contentLength) {
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength) < minResponseSize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @ChannelHandler.Sharable
+    static final class IdentityEncodingRemover extends ChannelOutboundHandlerAdapter {
+
+        static final IdentityEncodingRemover INSTANCE = new IdentityEncodingRemover();
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof HttpResponse) {
+                HttpHeaders headers = ((HttpResponse) msg).headers();
+                if (headers.contains(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY, true)) {
+                    headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+                }
+            }
+            ctx.write(msg, promise);
+        }
+    }
+}
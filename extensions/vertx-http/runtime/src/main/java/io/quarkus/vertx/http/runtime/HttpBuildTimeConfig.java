@@ -35,4 +35,9 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem(defaultValue = "/quarkus")
     public String consolePath;
+
+    /**
+     * Static resources related settings
+     */
+    public StaticResourcesConfig staticResources;
 }
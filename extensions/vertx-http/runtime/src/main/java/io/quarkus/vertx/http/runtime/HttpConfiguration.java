@@ -95,6 +95,31 @@ public class HttpConfiguration {
     @ConfigItem(defaultValue = "true")
     public boolean http2;
 
+    /**
+     * The initial HTTP/2 flow control window of each stream, in bytes. If this is not set the default of 65535 is
+     * used.
+     *
+     * Clients cannot send more than this amount of data on a stream before they receive a window update, so on links
+     * with a high latency a larger window allows a higher throughput per stream.
+     */
+    @ConfigItem
+    public OptionalInt http2InitialWindowSize;
+
+    /**
+     * The HTTP/2 flow control window of a whole connection, in bytes. This limits the data that can be in flight
+     * across all the streams of a connection, so it should be at least as large as the stream window. If this is not
+     * set the default of 65535 is used.
+     */
+    @ConfigItem
+    public OptionalInt http2ConnectionWindowSize;
+
+    /**
+     * If this is true, and a metrics extension is present, the number of active HTTP/2 streams and the largest number
+     * of active streams on a single connection are published as gauges.
+     */
+    @ConfigItem(name = "http2-metrics.enabled")
+    public boolean http2MetricsEnabled;
+
     /**
      * The CORS config
      */
@@ -141,6 +166,11 @@ public class HttpConfiguration {
      */
     public BodyConfig body;
 
+    /**
+     * Response compression related settings
+     */
+    public CompressionConfig compression;
+
     /**
      * The encryption key that is used to store persistent logins (e.g. for form auth). Logins are stored in a persistent
      * cookie that is encrypted with AES-256 using a key derived from a SHA-256 hash of the key that is provided here.
@@ -0,0 +1,205 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.StaticHandler;
+
+/**
+ * Serves static resources that were loaded in memory when the application started.
+ * <p>
+ * If a gzip compressed version of a resource was created at build time it is sent to the clients that accept it,
+ * so no compression happens when the request is served. The caching headers are the same as the ones sent by the
+ * default {@link StaticHandler}.
+ */
+class InMemoryStaticHandler implements Handler<RoutingContext> {
+
+    private static final String CACHE_CONTROL = "public, max-age=" + StaticHandler.DEFAULT_MAX_AGE_SECONDS;
+    private static final DateTimeFormatter HTTP_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private final Map<String, Resource> resources;
+
+    InMemoryStaticHandler(Map<String, Resource> resources) {
+        this.resources = resources;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            ctx.next();
+            return;
+        }
+        String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
+                : ctx.normalisedPath().substring(ctx.mountPoint().length());
+        Resource resource = resources.get(rel);
+        if (resource == null) {
+            ctx.next();
+            return;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        Buffer body = resource.data;
+        String etag = resource.etag;
+        if (resource.compressedData != null) {
+            headers.set(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaderNames.ACCEPT_ENCODING))) {
+                body = resource.compressedData;
+                etag = resource.compressedEtag;
+                headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+            }
+        }
+        headers.set(HttpHeaderNames.ETAG, etag);
+        headers.set(HttpHeaderNames.CACHE_CONTROL, CACHE_CONTROL);
+        headers.set(HttpHeaderNames.LAST_MODIFIED, resource.lastModified);
+        if (matches(request.getHeader(HttpHeaderNames.IF_NONE_MATCH), etag)) {
+            headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        headers.set(HttpHeaderNames.CONTENT_TYPE, resource.contentType);
+        headers.set(HttpHeaderNames.CONTENT_LENGTH, resource.contentLength(body));
+        if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(body);
+        }
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the entity tag of a resource. The header is either {@code *} or a
+     * list of entity tags, which are compared using the weak comparison, i.e. a {@code W/} prefix is ignored.
+     *
+     * @param ifNoneMatch The header value, may be null
+     * @param etag The strong entity tag of the resource
+     * @return true if the header matches the entity tag
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        int length = ifNoneMatch.length();
+        int i = 0;
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            if (c == '*') {
+                return true;
+            }
+            if (ifNoneMatch.startsWith("W/", i)) {
+                i += 2;
+            }
+            if (i < length && ifNoneMatch.charAt(i) == '"') {
+                int end = ifNoneMatch.indexOf('"', i + 1);
+                if (end == -1) {
+                    return false;
+                }
+                if (end + 1 - i == etag.length() && ifNoneMatch.regionMatches(i, etag, 0, etag.length())) {
+                    return true;
+                }
+                i = end + 1;
+            } else {
+                //not a valid entity tag, skip to the next one
+                int next = ifNoneMatch.indexOf(',', i);
+                if (next == -1) {
+                    return false;
+                }
+                i = next + 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if an {@code Accept-Encoding} header allows a gzip compressed response. An explicit {@code gzip} entry
+     * takes precedence over {@code *}, whatever their order.
+     *
+     * @param acceptEncoding The header value, may be null
+     * @return true if gzip is acceptable
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String coding = part;
+            String quality = null;
+            int index = part.indexOf(';');
+            if (index != -1) {
+                coding = part.substring(0, index);
+                quality = part.substring(index + 1).trim();
+            }
+            coding = coding.trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                return quality == null || !isZero(quality);
+            }
+            if (coding.equals("*")) {
+                wildcard = quality == null || !isZero(quality);
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZero(String quality) {
+        if (!quality.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Float.parseFloat(quality.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    static final class Resource {
+
+        final String contentType;
+        final Buffer data;
+        final String etag;
+        final Buffer compressedData;
+        final String compressedEtag;
+        final String lastModified;
+        private final String contentLength;
+        private final String compressedContentLength;
+
+        Resource(String contentType, Buffer data, String etag, Buffer compressedData, long lastModified) {
+            this.contentType = contentType;
+            this.data = data;
+            this.etag = etag;
+            this.lastModified = HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(lastModified));
+            this.contentLength = String.valueOf(data.length());
+            this.compressedData = compressedData;
+            if (compressedData != null) {
+                //the compressed representation needs its own entity tag
+                this.compressedEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+                this.compressedContentLength = String.valueOf(compressedData.length());
+            } else {
+                this.compressedEtag = null;
+                this.compressedContentLength = null;
+            }
+        }
+
+        String contentLength(Buffer body) {
+            return body == compressedData ? compressedContentLength : contentLength;
+        }
+    }
+}
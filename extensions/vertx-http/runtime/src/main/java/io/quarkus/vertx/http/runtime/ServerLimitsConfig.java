@@ -32,4 +32,25 @@ public class ServerLimitsConfig {
     @ConfigItem(defaultValue = "4096")
     public int maxInitialLineLength;
 
+    /**
+     * The maximum size of the HPACK header compression table that the server advertises to HTTP/2 clients, in bytes.
+     * If this is not set the Vert.x default of 4096 is used.
+     */
+    @ConfigItem
+    public Optional<Long> headerTableSize;
+
+    /**
+     * The maximum number of concurrent streams a client can open on a single HTTP/2 connection. If this is not set
+     * the Vert.x default of 100 is used.
+     */
+    @ConfigItem
+    public Optional<Long> maxConcurrentStreams;
+
+    /**
+     * The largest HTTP/2 frame payload the server is willing to receive, in bytes. This must be between 16384 and
+     * 16777215. If this is not set the default of 16384 is used.
+     */
+    @ConfigItem
+    public Optional<Integer> maxFrameSize;
+
 }
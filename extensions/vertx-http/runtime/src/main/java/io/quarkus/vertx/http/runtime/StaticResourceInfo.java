@@ -0,0 +1,53 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * Build time information about a static resource that is served from memory.
+ */
+public class StaticResourceInfo {
+
+    private final String path;
+    private final String resourceName;
+    private final String contentType;
+    private final String etag;
+    private final String compressedResourceName;
+
+    /**
+     *
+     * @param path The request path
+     * @param resourceName The name of the resource, relative to {@code META-INF/resources}
+     * @param contentType The content type
+     * @param etag The entity tag of the uncompressed resource
+     * @param compressedResourceName The name of the generated gzip compressed version of the resource, or null
+     */
+    @RecordableConstructor
+    public StaticResourceInfo(String path, String resourceName, String contentType, String etag,
+            String compressedResourceName) {
+        this.path = path;
+        this.resourceName = resourceName;
+        this.contentType = contentType;
+        this.etag = etag;
+        this.compressedResourceName = compressedResourceName;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getCompressedResourceName() {
+        return compressedResourceName;
+    }
+}
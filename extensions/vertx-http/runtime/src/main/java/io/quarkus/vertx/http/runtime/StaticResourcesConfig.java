@@ -0,0 +1,36 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * If this is true the static resources from {@code META-INF/resources} are indexed at build time and loaded in
+     * memory when the application starts. They are then served from memory with a precomputed {@code ETag} and
+     * {@code Content-Length}, instead of being looked up on every request.
+     * <p>
+     * This has no effect in dev mode, where the resources can change.
+     */
+    @ConfigItem
+    public boolean inMemory;
+
+    /**
+     * Resources that are larger than this are not loaded in memory, and are served from the class path instead.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize maxInMemorySize;
+
+    /**
+     * If this is true a {@code gzip} compressed version of the text based in memory resources is created at build time.
+     * It is sent to the clients that accept the {@code gzip} encoding, so that the resources do not need to be
+     * compressed on every request.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean compress;
+}
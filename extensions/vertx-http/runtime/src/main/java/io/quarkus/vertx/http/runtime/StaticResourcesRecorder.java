@@ -1,13 +1,23 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.StaticHandler;
@@ -16,16 +26,71 @@ import io.vertx.ext.web.handler.StaticHandler;
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
+    public static final String COMPRESSED_RESOURCES = "META-INF/quarkus-compressed-resources";
 
     private static volatile Set<String> knownPaths;
+    private static volatile Map<String, InMemoryStaticHandler.Resource> inMemoryResources = Collections.emptyMap();
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public void staticInit(Set<String> knownPaths) {
+    public void staticInit(Set<String> knownPaths, List<StaticResourceInfo> inMemory) {
         StaticResourcesRecorder.knownPaths = knownPaths;
+        if (!inMemory.isEmpty()) {
+            //this happens at static init so the resources end up in the image heap in native mode
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            Map<String, Buffer> loaded = new HashMap<>();
+            Map<String, InMemoryStaticHandler.Resource> resources = new HashMap<>();
+            for (StaticResourceInfo info : inMemory) {
+                Buffer data = loaded.computeIfAbsent(META_INF_RESOURCES + info.getResourceName(),
+                        name -> readResource(cl, name));
+                Buffer compressed = null;
+                if (info.getCompressedResourceName() != null) {
+                    compressed = loaded.computeIfAbsent(info.getCompressedResourceName(), name -> readResource(cl, name));
+                }
+                if (data != null) {
+                    resources.put(info.getPath(),
+                            new InMemoryStaticHandler.Resource(info.getContentType(), data, info.getEtag(), compressed,
+                                    lastModified(cl, META_INF_RESOURCES + info.getResourceName())));
+                }
+            }
+            inMemoryResources = Collections.unmodifiableMap(resources);
+        }
+    }
+
+    private static Buffer readResource(ClassLoader cl, String name) {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            return Buffer.buffer(out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long lastModified(ClassLoader cl, String name) {
+        long lastModified = 0;
+        URL url = cl.getResource(name);
+        if (url != null) {
+            try {
+                URLConnection connection = url.openConnection();
+                connection.setUseCaches(false);
+                lastModified = connection.getLastModified();
+                connection.getInputStream().close();
+            } catch (IOException e) {
+                //the time the resource was loaded is used instead
+            }
+        }
+        return lastModified > 0 ? lastModified : System.currentTimeMillis();
     }
 
     public Consumer<Route> start() {
@@ -51,6 +116,9 @@ public class StaticResourcesRecorder {
                 });
             }
         }
+        if (!inMemoryResources.isEmpty()) {
+            handlers.add(new InMemoryStaticHandler(inMemoryResources));
+        }
         if (!knownPaths.isEmpty()) {
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
             handlers.add(ctx -> {
@@ -50,6 +50,7 @@ import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
@@ -58,6 +59,7 @@ import io.quarkus.vertx.http.runtime.devmode.RemoteSyncHandler;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
+import io.quarkus.vertx.http.runtime.filters.Http2StreamMetricsFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
@@ -74,6 +76,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
@@ -119,6 +122,8 @@ public class VertxHttpRecorder {
 
     private static volatile Handler<HttpServerRequest> rootHandler;
 
+    private static final Http2StreamMetricsFilter HTTP2_STREAM_METRICS = new Http2StreamMetricsFilter();
+
     private static final Handler<HttpServerRequest> ACTUAL_ROOT = new Handler<HttpServerRequest>() {
         @Override
         public void handle(HttpServerRequest httpServerRequest) {
@@ -274,6 +279,10 @@ public class VertxHttpRecorder {
             });
         }
 
+        if (httpConfiguration.compression.enabled) {
+            router.route().order(Integer.MIN_VALUE).handler(new CompressionHandler(httpConfiguration.compression));
+        }
+
         if (httpConfiguration.limits.maxBodySize.isPresent()) {
             long limit = httpConfiguration.limits.maxBodySize.get().asLongValue();
             Long limitObj = limit;
@@ -353,13 +362,25 @@ public class VertxHttpRecorder {
             quarkusWrapperNeeded = true;
         }
 
+        if (httpConfiguration.http2MetricsEnabled) {
+            HTTP2_STREAM_METRICS.next(root);
+            root = HTTP2_STREAM_METRICS;
+            quarkusWrapperNeeded = true;
+        }
+
         AccessLogConfig accessLog = httpConfiguration.accessLog;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                receiver = DefaultAccessLogReceiver.builder()
+                        .setLogWriteExecutor(executor)
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName)
+                        .setLogNameSuffix(accessLog.logSuffix)
+                        .setRotate(accessLog.rotate)
+                        .setMaxPendingMessages(accessLog.maxPendingMessages)
+                        .build();
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -560,6 +581,8 @@ public class VertxHttpRecorder {
         serverOptions.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         serverOptions.setMaxChunkSize(httpConfiguration.limits.maxChunkSize.asBigInteger().intValueExact());
         setIdleTimeout(httpConfiguration, serverOptions);
+        setCompression(httpConfiguration, serverOptions);
+        setHttp2Settings(httpConfiguration, serverOptions);
 
         if (certFile.isPresent() && keyFile.isPresent()) {
             createPemKeyCertOptions(certFile.get(), keyFile.get(), serverOptions);
@@ -715,6 +738,8 @@ public class VertxHttpRecorder {
         options.setHost(httpConfiguration.host);
         options.setPort(httpConfiguration.determinePort(launchMode));
         setIdleTimeout(httpConfiguration, options);
+        setCompression(httpConfiguration, options);
+        setHttp2Settings(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         options.setMaxChunkSize(httpConfiguration.limits.maxChunkSize.asBigInteger().intValueExact());
         options.setWebsocketSubProtocols(websocketSubProtocols);
@@ -734,6 +759,8 @@ public class VertxHttpRecorder {
         HttpServerOptions options = new HttpServerOptions();
         options.setHost(httpConfiguration.domainSocket);
         setIdleTimeout(httpConfiguration, options);
+        setCompression(httpConfiguration, options);
+        setHttp2Settings(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         options.setMaxChunkSize(httpConfiguration.limits.maxChunkSize.asBigInteger().intValueExact());
         options.setWebsocketSubProtocols(websocketSubProtocols);
@@ -746,6 +773,33 @@ public class VertxHttpRecorder {
         options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
     }
 
+    private static void setCompression(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        if (httpConfiguration.compression.enabled) {
+            options.setCompressionSupported(true);
+            options.setCompressionLevel(httpConfiguration.compression.level);
+        }
+    }
+
+    static void setHttp2Settings(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        Http2Settings settings = options.getInitialSettings();
+        ServerLimitsConfig limits = httpConfiguration.limits;
+        if (limits.headerTableSize.isPresent()) {
+            settings.setHeaderTableSize(limits.headerTableSize.get());
+        }
+        if (limits.maxConcurrentStreams.isPresent()) {
+            settings.setMaxConcurrentStreams(limits.maxConcurrentStreams.get());
+        }
+        if (limits.maxFrameSize.isPresent()) {
+            settings.setMaxFrameSize(limits.maxFrameSize.get());
+        }
+        if (httpConfiguration.http2InitialWindowSize.isPresent()) {
+            settings.setInitialWindowSize(httpConfiguration.http2InitialWindowSize.getAsInt());
+        }
+        if (httpConfiguration.http2ConnectionWindowSize.isPresent()) {
+            options.setHttp2ConnectionWindowSize(httpConfiguration.http2ConnectionWindowSize.getAsInt());
+        }
+    }
+
     public void warnIfPortChanged(HttpConfiguration config, int port) {
         if (config.port != port) {
             LOGGER.errorf(
@@ -773,6 +827,18 @@ public class VertxHttpRecorder {
         return new GracefulShutdownFilter();
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerHttp2Metrics(HttpConfiguration httpConfiguration) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (httpConfiguration.http2MetricsEnabled) {
+                    HTTP2_STREAM_METRICS.registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+
     private static class WebDeploymentVerticle extends AbstractVerticle {
 
         private HttpServer httpServer;
@@ -845,22 +911,31 @@ public class VertxHttpRecorder {
                         }
                     });
                 }
+                removeIdentityEncoding(httpServer, httpOptions);
                 setupTcpHttpServer(httpServer, httpOptions, false, startFuture, remainingCount);
             }
 
             if (domainSocketOptions != null) {
                 domainSocketServer = vertx.createHttpServer(domainSocketOptions);
                 domainSocketServer.requestHandler(ACTUAL_ROOT);
+                removeIdentityEncoding(domainSocketServer, domainSocketOptions);
                 setupUnixDomainSocketHttpServer(domainSocketServer, domainSocketOptions, startFuture, remainingCount);
             }
 
             if (httpsOptions != null) {
                 httpsServer = vertx.createHttpServer(httpsOptions);
                 httpsServer.requestHandler(ACTUAL_ROOT);
+                removeIdentityEncoding(httpsServer, httpsOptions);
                 setupTcpHttpServer(httpsServer, httpsOptions, true, startFuture, remainingCount);
             }
         }
 
+        private void removeIdentityEncoding(HttpServer httpServer, HttpServerOptions options) {
+            if (options.isCompressionSupported()) {
+                httpServer.connectionHandler(CompressionHandler::removeIdentityEncoding);
+            }
+        }
+
         private void setupUnixDomainSocketHttpServer(HttpServer httpServer, HttpServerOptions options, Future<Void> startFuture,
                 AtomicInteger remainingCount) {
             httpServer.listen(SocketAddress.domainSocketAddress(options.getHost()), event -> {
@@ -1016,6 +1091,10 @@ public class VertxHttpRecorder {
         return ACTUAL_ROOT;
     }
 
+    public static Http2StreamMetricsFilter getHttp2StreamMetrics() {
+        return HTTP2_STREAM_METRICS;
+    }
+
     public Handler<RoutingContext> createBodyHandler(HttpConfiguration httpConfiguration) {
         BodyHandler bodyHandler = BodyHandler.create();
         Optional<MemorySize> maxBodySize = httpConfiguration.limits.maxBodySize;
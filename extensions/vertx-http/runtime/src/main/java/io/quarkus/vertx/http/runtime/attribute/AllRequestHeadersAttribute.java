@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 
@@ -16,14 +17,25 @@ public class AllRequestHeadersAttribute implements ExchangeAttribute {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
+        return formatCapturedValue(captureAttribute(exchange));
+    }
+
+    @Override
+    public Object captureAttribute(RoutingContext exchange) {
         final MultiMap headers = exchange.request().headers();
+        // A copy of the headers, the exchange must not be accessed once it is complete
+        return headers.isEmpty() ? null : headers.entries();
+    }
 
-        if (headers.isEmpty()) {
+    @Override
+    @SuppressWarnings("unchecked")
+    public String formatCapturedValue(Object capturedValue) {
+        if (capturedValue == null) {
             return null;
         } else {
             final StringJoiner joiner = new StringJoiner(System.lineSeparator());
 
-            for (Map.Entry<String, String> header : headers) {
+            for (Map.Entry<String, String> header : (List<Map.Entry<String, String>>) capturedValue) {
                 joiner.add(header.getKey() + ": " + header.getValue());
             }
 
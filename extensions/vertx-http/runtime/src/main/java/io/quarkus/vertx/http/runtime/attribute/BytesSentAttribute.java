@@ -20,12 +20,21 @@ public class BytesSentAttribute implements ExchangeAttribute {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        if (dashIfZero) {
-            long bytesSent = exchange.response().bytesWritten();
-            return bytesSent == 0 ? "-" : Long.toString(bytesSent);
-        } else {
-            return Long.toString(exchange.response().bytesWritten());
+        return formatCapturedValue(captureAttribute(exchange));
+    }
+
+    @Override
+    public Object captureAttribute(final RoutingContext exchange) {
+        return exchange.response().bytesWritten();
+    }
+
+    @Override
+    public String formatCapturedValue(final Object capturedValue) {
+        long bytesSent = (Long) capturedValue;
+        if (dashIfZero && bytesSent == 0) {
+            return "-";
         }
+        return Long.toString(bytesSent);
     }
 
     @Override
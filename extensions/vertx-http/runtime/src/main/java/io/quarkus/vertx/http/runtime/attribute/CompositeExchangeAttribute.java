@@ -28,6 +28,28 @@ public class CompositeExchangeAttribute implements ExchangeAttribute {
         return sb.toString();
     }
 
+    @Override
+    public Object captureAttribute(RoutingContext exchange) {
+        final Object[] values = new Object[attributes.length];
+        for (int i = 0; i < attributes.length; ++i) {
+            values[i] = attributes[i].captureAttribute(exchange);
+        }
+        return values;
+    }
+
+    @Override
+    public String formatCapturedValue(Object capturedValue) {
+        final Object[] values = (Object[]) capturedValue;
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < attributes.length; ++i) {
+            final String val = attributes[i].formatCapturedValue(values[i]);
+            if (val != null) {
+                sb.append(val);
+            }
+        }
+        return sb.toString();
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("combined", newValue);
@@ -44,6 +44,16 @@ public class DateTimeAttribute implements ExchangeAttribute {
         return formatter.format(ZonedDateTime.now());
     }
 
+    @Override
+    public Object captureAttribute(final RoutingContext exchange) {
+        return ZonedDateTime.now();
+    }
+
+    @Override
+    public String formatCapturedValue(final Object capturedValue) {
+        return formatter.format((ZonedDateTime) capturedValue);
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Date time", newValue);
@@ -16,6 +16,28 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Captures the raw value of the attribute from the HTTP server exchange, without building its string
+     * representation. This is called on the thread handling the exchange, while {@link #formatCapturedValue(Object)}
+     * may be called later on any thread, e.g. by an access log writer.
+     *
+     * @param exchange The exchange
+     * @return The captured value, which may be null
+     */
+    default Object captureAttribute(final RoutingContext exchange) {
+        return readAttribute(exchange);
+    }
+
+    /**
+     * Builds the string representation of a value returned by {@link #captureAttribute(RoutingContext)}.
+     *
+     * @param capturedValue The captured value
+     * @return The attribute
+     */
+    default String formatCapturedValue(final Object capturedValue) {
+        return (String) capturedValue;
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      * 
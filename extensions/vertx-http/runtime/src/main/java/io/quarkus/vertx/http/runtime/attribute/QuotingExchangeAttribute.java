@@ -20,7 +20,20 @@ public class QuotingExchangeAttribute implements ExchangeAttribute {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        String svalue = exchangeAttribute.readAttribute(exchange);
+        return quote(exchangeAttribute.readAttribute(exchange));
+    }
+
+    @Override
+    public Object captureAttribute(RoutingContext exchange) {
+        return exchangeAttribute.captureAttribute(exchange);
+    }
+
+    @Override
+    public String formatCapturedValue(Object capturedValue) {
+        return quote(exchangeAttribute.formatCapturedValue(capturedValue));
+    }
+
+    private static String quote(String svalue) {
         // Does the value contain a " ? If so must encode it
         if (svalue == null || "-".equals(svalue) || svalue.isEmpty()) {
             return "-";
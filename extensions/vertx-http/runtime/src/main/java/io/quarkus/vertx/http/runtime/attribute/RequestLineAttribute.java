@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -19,13 +20,25 @@ public class RequestLineAttribute implements ExchangeAttribute {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
+        return formatCapturedValue(captureAttribute(exchange));
+    }
+
+    @Override
+    public Object captureAttribute(final RoutingContext exchange) {
+        return new Object[] { exchange.request().method(), exchange.request().uri(), exchange.request().version() };
+    }
+
+    @Override
+    public String formatCapturedValue(final Object capturedValue) {
+        final Object[] values = (Object[]) capturedValue;
+        final HttpVersion version = (HttpVersion) values[2];
         StringBuilder sb = new StringBuilder()
-                .append(exchange.request().method())
+                .append(values[0])
                 .append(' ')
-                .append(exchange.request().uri());
+                .append(values[1]);
         sb.append(' ');
         String httpVersion = "-";
-        switch (exchange.request().version()) {
+        switch (version) {
             case HTTP_1_0:
                 httpVersion = "HTTP/1.0";
                 break;
@@ -38,7 +51,7 @@ public class RequestLineAttribute implements ExchangeAttribute {
             default:
                 // best effort to try and infer the HTTP version from
                 // any "unknown" enum value
-                httpVersion = exchange.request().version().name()
+                httpVersion = version.name()
                         .replace("HTTP_", "HTTP/")
                         .replace("_", ".");
                 break;
@@ -28,21 +28,33 @@ public class ResponseTimeAttribute implements ExchangeAttribute {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
+        return formatCapturedValue(captureAttribute(exchange));
+    }
+
+    @Override
+    public Object captureAttribute(RoutingContext exchange) {
         Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
         if (requestStartTime == null) {
             return null;
         }
-        final long nanos;
         Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
         if (first != null) {
-            nanos = first;
-        } else {
-            nanos = System.nanoTime() - requestStartTime;
-            if (exchange.response().ended()) {
-                //save the response time so it is consistent
-                exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
-            }
+            return first;
+        }
+        long nanos = System.nanoTime() - requestStartTime;
+        if (exchange.response().ended()) {
+            //save the response time so it is consistent
+            exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
+        }
+        return nanos;
+    }
+
+    @Override
+    public String formatCapturedValue(Object capturedValue) {
+        if (capturedValue == null) {
+            return null;
         }
+        final long nanos = (Long) capturedValue;
         if (timeUnit == TimeUnit.SECONDS) {
             StringBuilder buf = new StringBuilder();
             long milis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
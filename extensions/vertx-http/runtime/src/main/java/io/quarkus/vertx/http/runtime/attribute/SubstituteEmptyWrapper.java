@@ -26,7 +26,20 @@ public class SubstituteEmptyWrapper implements ExchangeAttributeWrapper {
 
         @Override
         public String readAttribute(RoutingContext exchange) {
-            String val = attribute.readAttribute(exchange);
+            return substitute(attribute.readAttribute(exchange));
+        }
+
+        @Override
+        public Object captureAttribute(RoutingContext exchange) {
+            return attribute.captureAttribute(exchange);
+        }
+
+        @Override
+        public String formatCapturedValue(Object capturedValue) {
+            return substitute(attribute.formatCapturedValue(capturedValue));
+        }
+
+        private String substitute(String val) {
             if (val == null || val.isEmpty()) {
                 return substitute;
             }
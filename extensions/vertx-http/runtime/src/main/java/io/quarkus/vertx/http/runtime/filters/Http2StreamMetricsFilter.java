@@ -0,0 +1,98 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+
+/**
+ * Tracks the HTTP/2 streams that are in progress, in total and per connection.
+ * <p>
+ * Only connections with at least one active stream are tracked, so the state does not depend on being notified
+ * when a connection is closed.
+ */
+public class Http2StreamMetricsFilter implements Handler<HttpServerRequest> {
+
+    private volatile Handler<HttpServerRequest> next;
+    private final ConcurrentMap<HttpConnection, Integer> activeStreams = new ConcurrentHashMap<>();
+    private final LongAdder active = new LongAdder();
+    private final LongAdder total = new LongAdder();
+
+    @Override
+    public void handle(HttpServerRequest event) {
+        if (event.version() == HttpVersion.HTTP_2) {
+            HttpConnection connection = event.connection();
+            activeStreams.merge(connection, 1, Integer::sum);
+            active.increment();
+            total.increment();
+            ((QuarkusRequestWrapper) event).addRequestDoneHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    activeStreams.computeIfPresent(connection, (k, v) -> v == 1 ? null : v - 1);
+                    active.decrement();
+                }
+            });
+        }
+        next.handle(event);
+    }
+
+    public void next(Handler<HttpServerRequest> next) {
+        this.next = next;
+    }
+
+    /**
+     *
+     * @return the number of HTTP/2 streams that are in progress
+     */
+    public long getActiveStreams() {
+        return active.sum();
+    }
+
+    /**
+     *
+     * @return the number of HTTP/2 connections with at least one stream in progress
+     */
+    public int getActiveConnections() {
+        return activeStreams.size();
+    }
+
+    /**
+     *
+     * @return the largest number of streams in progress on a single HTTP/2 connection
+     */
+    public int getMaxActiveStreamsPerConnection() {
+        int max = 0;
+        for (Integer streams : activeStreams.values()) {
+            max = Math.max(max, streams);
+        }
+        return max;
+    }
+
+    /**
+     *
+     * @return the number of HTTP/2 streams that have been opened
+     */
+    public long getTotalStreams() {
+        return total.sum();
+    }
+
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("http.server.http2.streams.active")
+                .description("The number of HTTP/2 streams that are in progress")
+                .buildGauge(this, Http2StreamMetricsFilter::getActiveStreams);
+        metricsFactory.builder("http.server.http2.streams.max-per-connection")
+                .description("The largest number of HTTP/2 streams in progress on a single connection")
+                .buildGauge(this, Http2StreamMetricsFilter::getMaxActiveStreamsPerConnection);
+        metricsFactory.builder("http.server.http2.connections.active")
+                .description("The number of HTTP/2 connections with at least one stream in progress")
+                .buildGauge(this, Http2StreamMetricsFilter::getActiveConnections);
+        metricsFactory.builder("http.server.http2.streams.total")
+                .description("The number of HTTP/2 streams that have been opened")
+                .buildCounter(this, Http2StreamMetricsFilter::getTotalStreams);
+    }
+}
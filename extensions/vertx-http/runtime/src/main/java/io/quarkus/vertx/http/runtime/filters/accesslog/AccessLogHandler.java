@@ -125,7 +125,8 @@ public class AccessLogHandler implements Handler<RoutingContext> {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                // Only the raw values are read here, the message may be built later on another thread
+                accessLogReceiver.logMessage(tokens, tokens.captureAttribute(rc));
             }
         });
         rc.next();
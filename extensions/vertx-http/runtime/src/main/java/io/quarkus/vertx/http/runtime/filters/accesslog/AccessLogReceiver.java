@@ -18,6 +18,8 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +31,16 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a message whose attribute values were captured from the exchange but not formatted yet. Receivers that
+     * write the messages on another thread should build them with {@link ExchangeAttribute#formatCapturedValue(Object)}
+     * on that thread.
+     *
+     * @param format The attribute that captured the values
+     * @param capturedValue The value returned by {@link ExchangeAttribute#captureAttribute}
+     */
+    default void logMessage(final ExchangeAttribute format, final Object capturedValue) {
+        logMessage(format.formatCapturedValue(capturedValue));
+    }
+
 }
@@ -21,31 +21,39 @@ package io.quarkus.vertx.http.runtime.filters.accesslog;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Deque;
-import java.util.List;
-import java.util.Locale;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+
 /**
  * Log Receiver that stores logs in a directory under the specified file name, and rotates them after
  * midnight.
  * <p/>
- * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
+ * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread. The
+ * messages logged with {@link #logMessage(ExchangeAttribute, Object)} are only formatted by the worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * The number of queued messages is bounded. If the worker thread cannot keep up the messages that do not fit
+ * in the queue are dropped rather than blocking the web threads, and the number of dropped messages is reported
+ * in the log. The worker thread writes the queued messages in batches through a large buffer.
  *
  * @author Stuart Douglas
  */
@@ -55,9 +63,21 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DEFAULT_LOG_SUFFIX = "log";
 
+    public static final int DEFAULT_MAX_PENDING_MESSAGES = 100000;
+
+    private static final int MAX_BATCH_SIZE = 10000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] NEW_LINE = { '\n' };
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private final Executor logWriteExecutor;
 
-    private final Deque<String> pendingMessages;
+    // Either a String or a CapturedMessage
+    private final Queue<Object> pendingMessages;
+    private final AtomicInteger pendingMessageCount = new AtomicInteger();
+    private final int maxPendingMessages;
+    private final LongAdder droppedMessages = new LongAdder();
+    private long reportedDroppedMessages;
 
     //0 = not running
     //1 = queued
@@ -78,7 +98,8 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix;
 
-    private Writer writer = null;
+    private FileChannel channel = null;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -110,43 +131,56 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, DEFAULT_MAX_PENDING_MESSAGES);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader, int maxPendingMessages) {
         this.logWriteExecutor = logWriteExecutor;
         this.outputDirectory = outputDirectory;
         this.logBaseName = logBaseName;
         this.rotate = rotate;
         this.fileHeaderGenerator = fileHeader;
+        this.maxPendingMessages = maxPendingMessages;
         this.logNameSuffix = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
-        this.pendingMessages = new ConcurrentLinkedDeque<>();
+        this.pendingMessages = new ConcurrentLinkedQueue<>();
         this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
         calculateChangeOverPoint();
     }
 
     private void calculateChangeOverPoint() {
-        Calendar calendar = Calendar.getInstance();
-        calendar.set(Calendar.SECOND, 0);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.HOUR_OF_DAY, 0);
-        calendar.add(Calendar.DATE, 1);
-        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
-        currentDateString = df.format(new Date());
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        currentDateString = today.format(DATE_FORMAT);
         // if there is an existing default log file, use the date last modified instead of the current date
         if (Files.exists(defaultLogFile)) {
             try {
-                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+                currentDateString = Instant.ofEpochMilli(Files.getLastModifiedTime(defaultLogFile).toMillis())
+                        .atZone(zone).toLocalDate().format(DATE_FORMAT);
             } catch (IOException e) {
                 // ignore. use the current date if exception happens.
             }
         }
-        changeOverPoint = calendar.getTimeInMillis();
+        changeOverPoint = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
     }
 
     @Override
     public void logMessage(final String message) {
+        enqueue(message);
+    }
+
+    @Override
+    public void logMessage(final ExchangeAttribute format, final Object capturedValue) {
+        enqueue(new CapturedMessage(format, capturedValue));
+    }
+
+    private void enqueue(final Object message) {
+        if (pendingMessageCount.incrementAndGet() > maxPendingMessages) {
+            //the writer cannot keep up, drop the message rather than blocking or running out of memory
+            pendingMessageCount.decrementAndGet();
+            droppedMessages.increment();
+            return;
+        }
         this.pendingMessages.add(message);
         int state = stateUpdater.get(this);
         if (state == 0) {
@@ -156,6 +190,14 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
+    /**
+     *
+     * @return the number of messages that were dropped because too many messages were waiting to be written
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessages.sum();
+    }
+
     /**
      * processes all queued log messages
      */
@@ -174,28 +216,16 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             } catch (IOException e) {
                 log.error("Error rotating access log", e);
             }
-            Calendar c = Calendar.getInstance();
-            c.setTimeInMillis(changeOverPoint);
-            c.add(Calendar.DATE, -1);
-            if (lm <= c.getTimeInMillis()) {
+            long startOfDay = Instant.ofEpochMilli(changeOverPoint).atZone(ZoneId.systemDefault()).minusDays(1)
+                    .toInstant().toEpochMilli();
+            if (lm <= startOfDay) {
                 doRotate();
             }
         }
         initialRun = false;
-        List<String> messages = new ArrayList<>();
-        String msg;
-        //only grab at most 1000 messages at a time
-        for (int i = 0; i < 1000; ++i) {
-            msg = pendingMessages.poll();
-            if (msg == null) {
-                break;
-            }
-            messages.add(msg);
-        }
         try {
-            if (!messages.isEmpty()) {
-                writeMessage(messages);
-            }
+            writeMessages();
+            reportDroppedMessages();
         } finally {
             stateUpdater.set(this, 0);
             //check to see if there is still more messages
@@ -205,19 +235,20 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
                     logWriteExecutor.execute(this);
                 }
             } else if (closed) {
-                try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
-                    }
-                } catch (IOException e) {
-                    log.error("Error writing access log", e);
-                }
+                closeChannel();
             }
         }
     }
 
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped > reportedDroppedMessages) {
+            log.warnf("%d access log messages were dropped because they could not be written fast enough",
+                    dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
+        }
+    }
+
     /**
      * For tests only. Blocks the current thread until all messages are written
      * Just does a busy wait.
@@ -233,29 +264,97 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
-    private void writeMessage(final List<String> messages) {
+    private void writeMessages() {
+        Object msg = pollMessage();
+        if (msg == null) {
+            return;
+        }
         if (System.currentTimeMillis() > changeOverPoint) {
             doRotate();
         }
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
                         StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+                if (channel.size() == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        write(header.getBytes(StandardCharsets.UTF_8));
+                        write(NEW_LINE);
                     }
                 }
             }
-            for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
+            //only grab a limited number of messages at a time, so rotation is checked regularly
+            int count = 0;
+            do {
+                String formatted = format(msg);
+                if (formatted != null) {
+                    write(formatted.getBytes(StandardCharsets.UTF_8));
+                    write(NEW_LINE);
+                }
+            } while (++count < MAX_BATCH_SIZE && (msg = pollMessage()) != null);
+            flushBuffer();
+        } catch (IOException e) {
+            buffer.clear();
+            log.error("Error writing access log", e);
+        }
+    }
+
+    /**
+     * The message is no longer counted as pending once it is polled, even if it cannot be written.
+     */
+    private Object pollMessage() {
+        Object msg = pendingMessages.poll();
+        if (msg != null) {
+            pendingMessageCount.decrementAndGet();
+        }
+        return msg;
+    }
+
+    private static String format(Object msg) {
+        if (msg instanceof CapturedMessage) {
+            CapturedMessage captured = (CapturedMessage) msg;
+            try {
+                return captured.format.formatCapturedValue(captured.value);
+            } catch (RuntimeException e) {
+                log.error("Error formatting access log message", e);
+                return null;
+            }
+        }
+        return (String) msg;
+    }
+
+    private void write(byte[] data) throws IOException {
+        if (data.length > buffer.remaining()) {
+            flushBuffer();
+            if (data.length > buffer.capacity()) {
+                ByteBuffer wrapped = ByteBuffer.wrap(data);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+                return;
+            }
+        }
+        buffer.put(data);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
             }
-            writer.flush();
         } catch (IOException e) {
             log.error("Error writing access log", e);
         }
@@ -267,11 +366,7 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             return;
         }
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
-            }
+            closeChannel();
             if (!Files.exists(defaultLogFile)) {
                 return;
             }
@@ -308,6 +403,17 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
+    private static final class CapturedMessage {
+
+        final ExchangeAttribute format;
+        final Object value;
+
+        CapturedMessage(ExchangeAttribute format, Object value) {
+            this.format = format;
+            this.value = value;
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -319,6 +425,7 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         private String logNameSuffix;
         private boolean rotate;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private int maxPendingMessages = DEFAULT_MAX_PENDING_MESSAGES;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -374,9 +481,18 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             return this;
         }
 
+        public int getMaxPendingMessages() {
+            return maxPendingMessages;
+        }
+
+        public Builder setMaxPendingMessages(int maxPendingMessages) {
+            this.maxPendingMessages = maxPendingMessages;
+            return this;
+        }
+
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    logFileHeaderGenerator, maxPendingMessages);
         }
     }
 }
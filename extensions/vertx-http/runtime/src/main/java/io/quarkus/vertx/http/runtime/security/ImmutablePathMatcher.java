@@ -0,0 +1,221 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable version of {@link PathMatcher}, that stores the paths in a trie keyed on the path segments.
+ * <p>
+ * Matching a path is a single walk of the trie that does not allocate. The matching rules are the same as
+ * {@link PathMatcher}: an exact path match is taken into account first, then the longest prefix path that ends on
+ * a segment boundary, and finally the default value which is registered with the {@code /} prefix path.
+ *
+ * @param <T> The type of the values
+ */
+public final class ImmutablePathMatcher<T> {
+
+    private static final String STRING_PATH_SEPARATOR = "/";
+
+    private final T defaultValue;
+    private final Node<T> root;
+
+    private ImmutablePathMatcher(T defaultValue, Node<T> root) {
+        this.defaultValue = defaultValue;
+        this.root = root;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Matches a path against the registered values.
+     *
+     * @param path The relative path to match
+     * @return The value of the matched path, or the default value if no path matches
+     */
+    public T match(String path) {
+        T prefixMatch = defaultValue;
+        Node<T> node = root;
+        int length = path.length();
+        int start = 0;
+        int hash = 0;
+        for (int i = 0; i <= length; i++) {
+            char c = i == length ? '/' : path.charAt(i);
+            if (c != '/') {
+                //same hash as String.hashCode() for the segment
+                hash = 31 * hash + c;
+                continue;
+            }
+            node = node.children.get(hash, path, start, i);
+            if (node == null) {
+                return prefixMatch;
+            }
+            if (i == length) {
+                if (node.exact != null) {
+                    return node.exact;
+                }
+                return node.prefix != null ? node.prefix : prefixMatch;
+            }
+            if (node.prefix != null) {
+                prefixMatch = node.prefix;
+            }
+            start = i + 1;
+            hash = 0;
+        }
+        return prefixMatch;
+    }
+
+    public static final class Builder<T> {
+
+        private T defaultValue;
+        private final BuilderNode<T> root = new BuilderNode<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a path prefix and a value for that path.
+         * <p>
+         * The match is done on a prefix bases, so registering /foo will also match /foo/bar, but not /foobar. Exact
+         * path matches are taken into account first.
+         * <p>
+         * If / is specified as the path then it will replace the default value.
+         *
+         * @param path The path
+         * @param value The value
+         */
+        public Builder<T> addPrefixPath(String path, T value) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            if (STRING_PATH_SEPARATOR.equals(path)) {
+                defaultValue = value;
+            } else {
+                node(path).prefix = value;
+            }
+            return this;
+        }
+
+        public Builder<T> addExactPath(String path, T value) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            node(path).exact = value;
+            return this;
+        }
+
+        private BuilderNode<T> node(String path) {
+            BuilderNode<T> node = root;
+            int start = 0;
+            for (;;) {
+                int end = path.indexOf('/', start);
+                if (end == -1) {
+                    end = path.length();
+                }
+                node = node.children.computeIfAbsent(path.substring(start, end), k -> new BuilderNode<>());
+                if (end == path.length()) {
+                    return node;
+                }
+                start = end + 1;
+            }
+        }
+
+        public ImmutablePathMatcher<T> build() {
+            return new ImmutablePathMatcher<>(defaultValue, root.build());
+        }
+    }
+
+    private static final class BuilderNode<T> {
+
+        final Map<String, BuilderNode<T>> children = new HashMap<>();
+        T exact;
+        T prefix;
+
+        Node<T> build() {
+            String[] keys = new String[children.size()];
+            @SuppressWarnings("unchecked")
+            Node<T>[] values = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<String, BuilderNode<T>> e : children.entrySet()) {
+                keys[i] = e.getKey();
+                values[i++] = e.getValue().build();
+            }
+            return new Node<>(new SegmentMap<>(keys, values), exact, prefix);
+        }
+    }
+
+    private static final class Node<T> {
+
+        final SegmentMap<Node<T>> children;
+        final T exact;
+        final T prefix;
+
+        Node(SegmentMap<Node<T>> children, T exact, T prefix) {
+            this.children = children;
+            this.exact = exact;
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * An open addressing hash map that can be queried with a region of a string and its hash, so the path does not
+     * need to be split into segments.
+     */
+    private static final class SegmentMap<V> {
+
+        private final String[] keys;
+        private final int[] hashes;
+        private final V[] values;
+        private final int mask;
+
+        @SuppressWarnings("unchecked")
+        SegmentMap(String[] keys, V[] values) {
+            int capacity = 1;
+            while (capacity < keys.length * 2) {
+                capacity <<= 1;
+            }
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.values = (V[]) new Object[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int index = spread(keys[i].hashCode()) & mask;
+                while (this.keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                this.keys[index] = keys[i];
+                this.hashes[index] = keys[i].hashCode();
+                this.values[index] = values[i];
+            }
+        }
+
+        V get(int hash, String path, int start, int end) {
+            int length = end - start;
+            int index = spread(hash) & mask;
+            for (;;) {
+                String key = keys[index];
+                if (key == null) {
+                    return null;
+                }
+                if (hashes[index] == hash && key.length() == length && matches(key, path, start)) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private static boolean matches(String key, String path, int start) {
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != path.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,7 +28,7 @@ import io.vertx.ext.web.RoutingContext;
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private volatile ImmutablePathMatcher<PolicyMatch> pathMatcher = ImmutablePathMatcher.<PolicyMatch> builder().build();
 
     @Override
     public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<SecurityIdentity> identity,
@@ -76,7 +77,7 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             permissionCheckers.put(i.getKey(), i.getValue().get());
         }
 
-        Map<String, List<HttpMatcher>> tempMap = new HashMap<>();
+        Map<String, List<HttpMatcher>> tempMap = new LinkedHashMap<>();
         for (Map.Entry<String, PolicyMappingConfig> entry : config.auth.permissions.entrySet()) {
             HttpSecurityPolicy checker = permissionCheckers.get(entry.getValue().policy);
             if (checker == null) {
@@ -85,52 +86,80 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
             for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
                 path = path.trim();
-                if (tempMap.containsKey(path)) {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    tempMap.get(path).add(m);
-                } else {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    List<HttpMatcher> perms = new ArrayList<>();
-                    tempMap.put(path, perms);
-                    perms.add(m);
-                    if (path.endsWith("/*")) {
-                        String stripped = path.substring(0, path.length() - 2);
-                        pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                    } else if (path.endsWith("*")) {
-                        pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                    } else {
-                        pathMatcher.addExactPath(path, perms);
-                    }
-                }
+                HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
+                        checker);
+                tempMap.computeIfAbsent(path, p -> new ArrayList<>()).add(m);
+            }
+        }
+
+        //the permissions are resolved once, so finding the policies of a request is a single lookup
+        ImmutablePathMatcher.Builder<PolicyMatch> builder = ImmutablePathMatcher.builder();
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PolicyMatch match = PolicyMatch.create(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                builder.addPrefixPath(stripped.isEmpty() ? "/" : stripped, match);
+            } else if (path.endsWith("*")) {
+                builder.addPrefixPath(path.substring(0, path.length() - 1), match);
+            } else {
+                builder.addExactPath(path, match);
             }
         }
+        pathMatcher = builder.build();
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PolicyMatch match = pathMatcher.match(request.path());
+        if (match == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
-            }
+        return match.getCheckers(request.method().name());
+    }
+
+    /**
+     * The policies that apply to a path, resolved for each HTTP method.
+     */
+    static final class PolicyMatch {
+
+        private final Map<String, List<HttpSecurityPolicy>> methodCheckers;
+        private final List<HttpSecurityPolicy> otherMethodCheckers;
+
+        private PolicyMatch(Map<String, List<HttpSecurityPolicy>> methodCheckers,
+                List<HttpSecurityPolicy> otherMethodCheckers) {
+            this.methodCheckers = methodCheckers;
+            this.otherMethodCheckers = otherMethodCheckers;
         }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+
+        static PolicyMatch create(List<HttpMatcher> matchers) {
+            Map<String, List<HttpSecurityPolicy>> methodCheckers = new HashMap<>();
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodCheckers.computeIfAbsent(method, m -> new ArrayList<>()).add(i.checker);
+                    }
+                }
+            }
+            for (Map.Entry<String, List<HttpSecurityPolicy>> e : methodCheckers.entrySet()) {
+                e.setValue(Collections.unmodifiableList(e.getValue()));
+            }
+            List<HttpSecurityPolicy> otherMethodCheckers;
+            if (!noMethod.isEmpty()) {
+                otherMethodCheckers = Collections.unmodifiableList(noMethod);
+            } else {
+                //we deny if we did not match due to method filtering
+                otherMethodCheckers = Collections.singletonList(DenySecurityPolicy.INSTANCE);
+            }
+            return new PolicyMatch(methodCheckers, otherMethodCheckers);
         }
 
+        List<HttpSecurityPolicy> getCheckers(String method) {
+            List<HttpSecurityPolicy> checkers = methodCheckers.get(method);
+            return checkers != null ? checkers : otherMethodCheckers;
+        }
     }
 
     static class HttpMatcher {
@@ -0,0 +1,58 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpServerOptions;
+
+class Http2SettingsTest {
+
+    @Test
+    void testConfiguredSettings() {
+        HttpConfiguration config = config();
+        config.limits.headerTableSize = Optional.of(8192L);
+        config.limits.maxConcurrentStreams = Optional.of(50L);
+        config.limits.maxFrameSize = Optional.of(32768);
+        config.http2InitialWindowSize = OptionalInt.of(131072);
+        config.http2ConnectionWindowSize = OptionalInt.of(1048576);
+
+        HttpServerOptions options = new HttpServerOptions();
+        VertxHttpRecorder.setHttp2Settings(config, options);
+        Http2Settings settings = options.getInitialSettings();
+        assertEquals(8192L, settings.getHeaderTableSize());
+        assertEquals(50L, settings.getMaxConcurrentStreams());
+        assertEquals(32768, settings.getMaxFrameSize());
+        assertEquals(131072, settings.getInitialWindowSize());
+        assertEquals(1048576, options.getHttp2ConnectionWindowSize());
+    }
+
+    @Test
+    void testDefaultSettings() {
+        HttpServerOptions options = new HttpServerOptions();
+        VertxHttpRecorder.setHttp2Settings(config(), options);
+        Http2Settings settings = options.getInitialSettings();
+        // The Vert.x defaults are kept
+        assertEquals(Http2Settings.DEFAULT_HEADER_TABLE_SIZE, settings.getHeaderTableSize());
+        assertEquals(HttpServerOptions.DEFAULT_INITIAL_SETTINGS_MAX_CONCURRENT_STREAMS,
+                settings.getMaxConcurrentStreams());
+        assertEquals(Http2Settings.DEFAULT_MAX_FRAME_SIZE, settings.getMaxFrameSize());
+        assertEquals(Http2Settings.DEFAULT_INITIAL_WINDOW_SIZE, settings.getInitialWindowSize());
+        assertEquals(HttpServerOptions.DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE, options.getHttp2ConnectionWindowSize());
+    }
+
+    private static HttpConfiguration config() {
+        HttpConfiguration config = new HttpConfiguration();
+        config.limits = new ServerLimitsConfig();
+        config.limits.headerTableSize = Optional.empty();
+        config.limits.maxConcurrentStreams = Optional.empty();
+        config.limits.maxFrameSize = Optional.empty();
+        config.http2InitialWindowSize = OptionalInt.empty();
+        config.http2ConnectionWindowSize = OptionalInt.empty();
+        return config;
+    }
+}
@@ -0,0 +1,187 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+class DefaultAccessLogReceiverTest {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    @TempDir
+    Path dir;
+
+    // Tasks are only executed when runTasks() is called
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    void testDroppedMessages() throws IOException {
+        DefaultAccessLogReceiver receiver = builder().setMaxPendingMessages(2).build();
+        for (int i = 1; i <= 5; i++) {
+            receiver.logMessage("message " + i);
+        }
+        assertEquals(3, receiver.getDroppedMessageCount());
+        assertEquals(1, runTasks());
+        assertEquals(Arrays.asList("message 1", "message 2"), readLog());
+
+        // Messages are accepted again once the queued ones are written
+        receiver.logMessage("message 6");
+        receiver.logMessage("message 7");
+        runTasks();
+        assertEquals(3, receiver.getDroppedMessageCount());
+        assertEquals(Arrays.asList("message 1", "message 2", "message 6", "message 7"), readLog());
+        close(receiver);
+    }
+
+    @Test
+    void testBatches() throws IOException {
+        DefaultAccessLogReceiver receiver = builder().build();
+        int total = 10005;
+        for (int i = 0; i < total; i++) {
+            receiver.logMessage("message " + i);
+        }
+        // At most 10000 messages are written by a single run
+        assertEquals(2, runTasks());
+        List<String> lines = readLog();
+        assertEquals(total, lines.size());
+        for (int i = 0; i < total; i++) {
+            assertEquals("message " + i, lines.get(i));
+        }
+        assertEquals(0, receiver.getDroppedMessageCount());
+        close(receiver);
+    }
+
+    @Test
+    void testCapturedMessagesFormattedByWriter() throws IOException {
+        AtomicInteger formatted = new AtomicInteger();
+        ExchangeAttribute attribute = new ExchangeAttribute() {
+            @Override
+            public String readAttribute(RoutingContext exchange) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String formatCapturedValue(Object capturedValue) {
+                formatted.incrementAndGet();
+                return "message " + capturedValue;
+            }
+
+            @Override
+            public void writeAttribute(RoutingContext exchange, String newValue) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        DefaultAccessLogReceiver receiver = builder().build();
+        receiver.logMessage(attribute, 1);
+        receiver.logMessage("message 2");
+        receiver.logMessage(attribute, 3);
+        // Nothing is formatted until the writer runs
+        assertEquals(0, formatted.get());
+        runTasks();
+        assertEquals(2, formatted.get());
+        assertEquals(Arrays.asList("message 1", "message 2", "message 3"), readLog());
+        close(receiver);
+    }
+
+    @Test
+    void testPendingMessagesReleasedWhenFileCannotBeOpened() throws IOException {
+        Path missing = dir.resolve("missing");
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder().setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(missing).setLogBaseName("quarkus.").setLogNameSuffix("log")
+                .setMaxPendingMessages(2).build();
+        receiver.logMessage("lost 1");
+        receiver.logMessage("lost 2");
+        runTasks();
+
+        Files.createDirectory(missing);
+        receiver.logMessage("message 1");
+        receiver.logMessage("message 2");
+        runTasks();
+        assertEquals(0, receiver.getDroppedMessageCount());
+        assertEquals(Arrays.asList("message 1", "message 2"),
+                Files.readAllLines(missing.resolve("quarkus.log"), StandardCharsets.UTF_8));
+        close(receiver);
+    }
+
+    @Test
+    void testExistingLogRotated() throws IOException {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate yesterday = LocalDate.now(zone).minusDays(1);
+        Path logFile = dir.resolve("quarkus.log");
+        Files.write(logFile, Arrays.asList("old message"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(logFile, FileTime.from(yesterday.atTime(12, 0).atZone(zone).toInstant()));
+
+        DefaultAccessLogReceiver receiver = builder().setRotate(true).build();
+        receiver.logMessage("new message");
+        runTasks();
+
+        assertEquals(Arrays.asList("old message"),
+                Files.readAllLines(dir.resolve("quarkus." + yesterday.format(DATE_FORMAT) + ".log"),
+                        StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("new message"), readLog());
+        close(receiver);
+    }
+
+    @Test
+    void testForcedRotation() throws IOException {
+        String today = LocalDate.now(ZoneId.systemDefault()).format(DATE_FORMAT);
+        DefaultAccessLogReceiver receiver = builder().setRotate(true).build();
+        receiver.logMessage("message 1");
+        runTasks();
+        receiver.rotate();
+        runTasks();
+        assertFalse(Files.exists(dir.resolve("quarkus.log")));
+        assertTrue(Files.exists(dir.resolve("quarkus." + today + ".log")));
+
+        receiver.logMessage("message 2");
+        runTasks();
+        receiver.rotate();
+        runTasks();
+        // The name of the rotated file is unique
+        assertEquals(Arrays.asList("message 2"),
+                Files.readAllLines(dir.resolve("quarkus." + today + "-1.log"), StandardCharsets.UTF_8));
+        close(receiver);
+    }
+
+    private DefaultAccessLogReceiver.Builder builder() {
+        return DefaultAccessLogReceiver.builder().setLogWriteExecutor(tasks::add).setOutputDirectory(dir)
+                .setLogBaseName("quarkus.").setLogNameSuffix("log");
+    }
+
+    private int runTasks() {
+        int runs = 0;
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+            runs++;
+        }
+        return runs;
+    }
+
+    private void close(DefaultAccessLogReceiver receiver) throws IOException {
+        receiver.close();
+        runTasks();
+    }
+
+    private List<String> readLog() throws IOException {
+        return Files.readAllLines(dir.resolve("quarkus.log"), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ImmutablePathMatcherTest {
+
+    private static final List<String> PREFIX_PATHS = Arrays.asList("/api", "/api/admin", "/api/admin/users/",
+            "/public", "/a/b/c");
+    private static final List<String> EXACT_PATHS = Arrays.asList("/api/info", "/api/admin", "/", "/public/");
+    private static final List<String> REQUEST_PATHS = Arrays.asList("/", "", "/api", "/api/", "/apix", "/api/info",
+            "/api/info/", "/api/admin", "/api/admin/", "/api/admin/users", "/api/admin/users/", "/api/admin/users/1",
+            "/api/admin/users//1", "/public", "/public/", "/public/index.html", "/a", "/a/b", "/a/b/c", "/a/b/c/d",
+            "/a/b/cd", "/other", "//api");
+
+    @Test
+    void testMatchesLikePathMatcher() {
+        PathMatcher<String> pathMatcher = new PathMatcher<>();
+        ImmutablePathMatcher.Builder<String> builder = ImmutablePathMatcher.builder();
+        for (String path : PREFIX_PATHS) {
+            pathMatcher.addPrefixPath(path, "prefix:" + path);
+            builder.addPrefixPath(path, "prefix:" + path);
+        }
+        for (String path : EXACT_PATHS) {
+            pathMatcher.addExactPath(path, "exact:" + path);
+            builder.addExactPath(path, "exact:" + path);
+        }
+        ImmutablePathMatcher<String> matcher = builder.build();
+        for (String path : REQUEST_PATHS) {
+            assertEquals(pathMatcher.match(path).getValue(), matcher.match(path), path);
+        }
+
+        pathMatcher.addPrefixPath("/", "default");
+        matcher = builder.addPrefixPath("/", "default").build();
+        for (String path : REQUEST_PATHS) {
+            assertEquals(pathMatcher.match(path).getValue(), matcher.match(path), path);
+        }
+    }
+
+    @Test
+    void testNoPaths() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder().build();
+        assertNull(matcher.match("/"));
+        assertNull(matcher.match("/api"));
+    }
+
+    @Test
+    void testManyPaths() {
+        PathMatcher<String> pathMatcher = new PathMatcher<>();
+        ImmutablePathMatcher.Builder<String> builder = ImmutablePathMatcher.builder();
+        for (int i = 0; i < 500; i++) {
+            String path = "/service" + (i % 20) + "/resource" + i;
+            if (i % 2 == 0) {
+                pathMatcher.addPrefixPath(path, path);
+                builder.addPrefixPath(path, path);
+            } else {
+                pathMatcher.addExactPath(path, path);
+                builder.addExactPath(path, path);
+            }
+        }
+        ImmutablePathMatcher<String> matcher = builder.build();
+        for (int i = 0; i < 600; i++) {
+            String path = "/service" + (i % 20) + "/resource" + i;
+            assertEquals(pathMatcher.match(path).getValue(), matcher.match(path), path);
+            assertEquals(pathMatcher.match(path + "/sub").getValue(), matcher.match(path + "/sub"), path);
+        }
+    }
+}
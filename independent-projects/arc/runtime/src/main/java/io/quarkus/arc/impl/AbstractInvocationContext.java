@@ -11,9 +11,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Supplier;
 
-abstract class AbstractInvocationContext implements ArcInvocationContext, Supplier<Map<String, Object>> {
+abstract class AbstractInvocationContext implements ArcInvocationContext {
 
     protected final Method method;
     protected final Constructor<?> constructor;
@@ -21,25 +20,34 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
     protected final List<InterceptorInvocation> chain;
     protected Object target;
     protected Object[] parameters;
-    // The map is initialized lazily but we need to use a holder so that all interceptors in the chain can access the same data
-    protected LazyValue<Map<String, Object>> contextData;
+    // The map is initialized lazily; all interceptors in the chain share the same context and thus the same data
+    // The chain may continue asynchronously on a different thread
+    protected volatile Map<String, Object> contextData;
 
     protected AbstractInvocationContext(Object target, Method method,
-            Constructor<?> constructor,
-            Object[] parameters, LazyValue<Map<String, Object>> contextData,
+            Constructor<?> constructor, Object[] parameters,
             Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
         this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters;
-        this.contextData = contextData != null ? contextData : new LazyValue<>(this);
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
 
     @Override
     public Map<String, Object> getContextData() {
-        return contextData.get();
+        Map<String, Object> data = contextData;
+        if (data == null) {
+            synchronized (this) {
+                data = contextData;
+                if (data == null) {
+                    data = newContextData();
+                    contextData = data;
+                }
+            }
+        }
+        return data;
     }
 
     @Override
@@ -100,8 +108,7 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
         return constructor;
     }
 
-    @Override
-    public Map<String, Object> get() {
+    protected Map<String, Object> newContextData() {
         Map<String, Object> result = new HashMap<String, Object>();
         result.put(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
         return result;
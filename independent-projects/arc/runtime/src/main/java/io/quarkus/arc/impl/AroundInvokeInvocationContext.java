@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
+import io.quarkus.arc.ArcInvocationContext;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -12,8 +14,10 @@ import javax.interceptor.InvocationContext;
 /**
  * Special type of InvocationContext for AroundInvoke interceptors.
  * <p>
- * A new instance of {@link AroundInvokeInvocationContext} is created for each interceptor in the chain. This does not comply
- * with the spec but allows for "asynchronous continuation" of an interceptor chain execution. In other words, it is possible to
+ * A single instance of {@link AroundInvokeInvocationContext} is created for each invocation and holds the state shared by
+ * all interceptors in the chain. The first interceptor receives this instance, and every next interceptor receives a
+ * lightweight {@link NextAroundInvokeInvocationContext} that only holds its position in the chain. This does not comply with
+ * the spec but allows for "asynchronous continuation" of an interceptor chain execution. In other words, it is possible to
  * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
  * asynchronously, possibly on a different thread.
  * <p>
@@ -22,14 +26,11 @@ import javax.interceptor.InvocationContext;
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
-    private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
 
-    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
+    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
-        this.position = position;
+        super(target, method, null, parameters, interceptorBindings, chain);
         this.aroundInvokeForward = aroundInvokeForward;
     }
 
@@ -39,16 +40,25 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             Set<Annotation> interceptorBindings) throws Exception {
 
         return chain.get(0).invoke(new AroundInvokeInvocationContext(target, method,
-                parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
+                parameters, interceptorBindings, chain, aroundInvokeForward));
     }
 
     @Override
     public Object proceed() throws Exception {
+        return proceed(1);
+    }
+
+    /**
+     * 
+     * @param position The position of the next interceptor in the chain
+     * @return the return value
+     * @throws Exception
+     */
+    Object proceed(int position) throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                return chain.get(position).invoke(new NextAroundInvokeInvocationContext(this, position + 1));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -65,4 +75,65 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
+    /**
+     * The context passed to an interceptor that is not the first one in the chain. All the state except for the position is
+     * delegated to the context of the invocation.
+     */
+    static final class NextAroundInvokeInvocationContext implements ArcInvocationContext {
+
+        private final AroundInvokeInvocationContext invocation;
+        private final int position;
+
+        NextAroundInvokeInvocationContext(AroundInvokeInvocationContext invocation, int position) {
+            this.invocation = invocation;
+            this.position = position;
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            return invocation.proceed(position);
+        }
+
+        @Override
+        public Object getTarget() {
+            return invocation.getTarget();
+        }
+
+        @Override
+        public Object getTimer() {
+            return invocation.getTimer();
+        }
+
+        @Override
+        public Method getMethod() {
+            return invocation.getMethod();
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return invocation.getConstructor();
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return invocation.getParameters();
+        }
+
+        @Override
+        public void setParameters(Object[] params) {
+            invocation.setParameters(params);
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return invocation.getContextData();
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return invocation.getInterceptorBindings();
+        }
+
+    }
+
 }
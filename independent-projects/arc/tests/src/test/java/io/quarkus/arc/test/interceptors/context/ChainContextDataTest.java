@@ -0,0 +1,75 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.io.IOException;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ChainContextDataTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, CharlieInterceptor.class);
+
+    @Test
+    public void testContextDataSharedAcrossChain() throws IOException {
+        assertEquals("alpha:bravo:charlie:ok:true:true:true", Arc.container().instance(SimpleBean.class).get().foo());
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo() {
+            return "ok";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("alpha", true);
+            Object ret = "alpha:" + ctx.proceed();
+            return ret + ":" + ctx.getContextData().get("bravo");
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("bravo", true);
+            return "bravo:" + ctx.proceed() + ":" + ctx.getContextData().get("charlie");
+        }
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("charlie", true);
+            return "charlie:" + ctx.proceed() + ":" + ctx.getContextData().get("alpha");
+        }
+    }
+
+}
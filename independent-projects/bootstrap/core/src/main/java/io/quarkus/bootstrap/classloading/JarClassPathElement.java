@@ -16,6 +16,7 @@ import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
 import java.security.cert.Certificate;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
@@ -36,6 +37,8 @@ public class JarClassPathElement implements ClassPathElement {
     private final Path root;
     private JarFile jarFile;
     private boolean closed;
+    //the content of the jar does not change so the resources are only listed once, even if the class loader is reset
+    private Set<String> providedResources;
 
     public JarClassPathElement(Path root) {
         try {
@@ -134,7 +137,10 @@ public class JarClassPathElement implements ClassPathElement {
 
     @Override
     public synchronized Set<String> getProvidedResources() {
-        return withJarFile((new Function<JarFile, Set<String>>() {
+        if (providedResources != null) {
+            return providedResources;
+        }
+        return providedResources = Collections.unmodifiableSet(withJarFile((new Function<JarFile, Set<String>>() {
             @Override
             public Set<String> apply(JarFile jarFile) {
                 Set<String> paths = new HashSet<>();
@@ -149,7 +155,7 @@ public class JarClassPathElement implements ClassPathElement {
                 }
                 return paths;
             }
-        }));
+        })));
     }
 
     @Override
@@ -294,7 +294,11 @@ public class QuarkusClassLoader extends ClassLoader implements Closeable {
                 return providers[0].getResource(name).getUrl();
             }
         } else {
+            ClassPathElement[] providers = state.loadableResources.get(name);
             for (ClassPathElement i : elements) {
+                if (!mayProvide(i, name, providers)) {
+                    continue;
+                }
                 ClassPathResource res = i.getResource(name);
                 if (res != null) {
                     //if the requested name ends with a trailing / we make sure
@@ -331,7 +335,11 @@ public class QuarkusClassLoader extends ClassLoader implements Closeable {
                 return new ByteArrayInputStream(providers[0].getResource(name).getData());
             }
         } else {
+            ClassPathElement[] providers = state.loadableResources.get(name);
             for (ClassPathElement i : elements) {
+                if (!mayProvide(i, name, providers)) {
+                    continue;
+                }
                 ClassPathResource res = i.getResource(name);
                 if (res != null) {
                     return new ByteArrayInputStream(res.getData());
@@ -341,6 +349,24 @@ public class QuarkusClassLoader extends ClassLoader implements Closeable {
         return parent.getResourceAsStream(unsanitisedName);
     }
 
+    /**
+     * The content of a jar does not change, so a jar element only needs to be checked if the index says that it
+     * provides the resource. Other elements are always checked as resources may have been added in dev mode.
+     */
+    private static boolean mayProvide(ClassPathElement element, String name, ClassPathElement[] providers) {
+        if (!(element instanceof JarClassPathElement) || name.isEmpty()) {
+            return true;
+        }
+        if (providers != null) {
+            for (ClassPathElement i : providers) {
+                if (i == element) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * This method is needed to make packages work correctly on JDK9+, as it will be called
      * to load the package-info class.
@@ -372,27 +398,34 @@ public class QuarkusClassLoader extends ClassLoader implements Closeable {
         //if the interrupt bit is set then we clear it and restore it at the end
         boolean interrupted = Thread.interrupted();
         try {
+            //fast path for classes that were already loaded, no lock is needed
+            Class<?> c = findLoadedClass(name);
+            if (c != null) {
+                return c;
+            }
+            //the state is immutable so the lookup does not need the class loading lock
+            //the lock is only taken if the class is actually defined by this class loader
             ClassLoaderState state = getState();
-            synchronized (getClassLoadingLock(name)) {
-                Class<?> c = findLoadedClass(name);
-                if (c != null) {
-                    return c;
-                }
-                String resourceName = sanitizeName(name).replace(".", "/") + ".class";
-                boolean parentFirst = parentFirst(resourceName, state);
-                if (state.bannedResources.contains(resourceName)) {
-                    throw new ClassNotFoundException(name);
+            String resourceName = sanitizeName(name).replace('.', '/') + ".class";
+            if (state.bannedResources.contains(resourceName)) {
+                throw new ClassNotFoundException(name);
+            }
+            boolean parentFirst = parentFirst(resourceName, state);
+            if (parentFirst) {
+                try {
+                    return parent.loadClass(name);
+                } catch (ClassNotFoundException ignore) {
+                    log.tracef("Class %s not found in parent first load from %s", name, parent);
                 }
-                if (parentFirst) {
-                    try {
-                        return parent.loadClass(name);
-                    } catch (ClassNotFoundException ignore) {
-                        log.tracef("Class %s not found in parent first load from %s", name, parent);
+            }
+            ClassPathElement[] resource = state.loadableResources.get(resourceName);
+            if (resource != null) {
+                ClassPathElement classPathElement = resource[0];
+                synchronized (getClassLoadingLock(name)) {
+                    c = findLoadedClass(name);
+                    if (c != null) {
+                        return c;
                     }
-                }
-                ClassPathElement[] resource = state.loadableResources.get(resourceName);
-                if (resource != null) {
-                    ClassPathElement classPathElement = resource[0];
                     ClassPathResource classPathElementResource = classPathElement.getResource(resourceName);
                     if (classPathElementResource != null) { //can happen if the class loader was closed
                         byte[] data = classPathElementResource.getData();
@@ -421,12 +454,12 @@ public class QuarkusClassLoader extends ClassLoader implements Closeable {
                                 protectionDomains.computeIfAbsent(classPathElement, (ce) -> ce.getProtectionDomain(this)));
                     }
                 }
+            }
 
-                if (!parentFirst) {
-                    return parent.loadClass(name);
-                }
-                throw new ClassNotFoundException(name);
+            if (!parentFirst) {
+                return parent.loadClass(name);
             }
+            throw new ClassNotFoundException(name);
 
         } finally {
             if (interrupted) {
@@ -0,0 +1,108 @@
+package io.quarkus.bootstrap.classloader;
+
+import io.quarkus.bootstrap.classloading.DirectoryClassPathElement;
+import io.quarkus.bootstrap.classloading.JarClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.bootstrap.util.IoUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClassLoadingIndexTestCase {
+
+    @Test
+    public void testParallelClassLoading() throws Exception {
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ClassToLoad.class);
+        Path path = Files.createTempFile("test", "quarkus-test.jar");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            jar.as(ZipExporter.class).exportTo(path.toFile(), true);
+            QuarkusClassLoader cl = QuarkusClassLoader.builder("test", getClass().getClassLoader(), false)
+                    .addElement(new JarClassPathElement(path))
+                    .build();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Class<?>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        start.await();
+                        return cl.loadClass(ClassToLoad.class.getName());
+                    }
+                }));
+            }
+            start.countDown();
+            Class<?> loaded = results.get(0).get();
+            Assertions.assertNotEquals(ClassToLoad.class, loaded);
+            Assertions.assertEquals(cl, loaded.getClassLoader());
+            for (Future<Class<?>> result : results) {
+                Assertions.assertSame(loaded, result.get());
+            }
+            cl.close();
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testResourceAddedToDirectoryAfterIndexIsBuilt() throws Exception {
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class)
+                .add(new StringAsset("jar"), "a.txt")
+                .add(new StringAsset("jar"), "b.txt");
+        JavaArchive dir = ShrinkWrap.create(JavaArchive.class)
+                .add(new StringAsset("dir"), "a.txt");
+        Path jarPath = Files.createTempFile("test", "quarkus-test.jar");
+        Path dirPath = Files.createTempDirectory("test");
+        try {
+            jar.as(ZipExporter.class).exportTo(jarPath.toFile(), true);
+            dir.as(ExplodedExporter.class).exportExploded(dirPath.toFile(), "tmp");
+
+            QuarkusClassLoader cl = QuarkusClassLoader.builder("test", getClass().getClassLoader(), false)
+                    .addElement(new DirectoryClassPathElement(dirPath.resolve("tmp")))
+                    .addElement(new JarClassPathElement(jarPath))
+                    .build();
+            // The first element wins
+            Assertions.assertEquals("dir", read(cl.getResource("a.txt")));
+            Assertions.assertEquals("jar", read(cl.getResource("b.txt")));
+            Assertions.assertNull(cl.getResource("c.txt"));
+
+            // Resources may be added to a directory in dev mode
+            IoUtils.writeFile(dirPath.resolve("tmp").resolve("b.txt"), "dir");
+            IoUtils.writeFile(dirPath.resolve("tmp").resolve("c.txt"), "dir");
+            Assertions.assertEquals("dir", read(cl.getResource("b.txt")));
+            Assertions.assertEquals("dir", read(cl.getResource("c.txt")));
+            cl.close();
+        } finally {
+            Files.deleteIfExists(jarPath);
+            IoUtils.recursiveDelete(dirPath);
+        }
+    }
+
+    private static String read(URL url) throws Exception {
+        Assertions.assertNotNull(url);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = url.openStream()) {
+            IoUtils.copy(out, in);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
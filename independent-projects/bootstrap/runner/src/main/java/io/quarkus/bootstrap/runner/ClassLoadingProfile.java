@@ -0,0 +1,115 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.jboss.logging.Logger;
+
+/**
+ * Records and replays the list of classes that are loaded by the {@link RunnerClassLoader} before the application
+ * has started.
+ * <p>
+ * If the {@value #GENERATE_SYSTEM_PROPERTY} system property is set the names of all classes defined by the runner
+ * class loader are recorded, and written to {@link QuarkusEntryPoint#QUARKUS_CLASS_LOADING_PROFILE} once startup is
+ * complete. The application then exits.
+ * <p>
+ * If the profile exists when the application is launched normally a background thread loads the listed classes
+ * in order while the main thread is booting, so that reading and defining the classes overlaps with the rest of
+ * the startup work. Preloading stops as soon as startup is complete.
+ */
+public final class ClassLoadingProfile {
+
+    public static final String GENERATE_SYSTEM_PROPERTY = "quarkus.class-loading-profile.generate";
+
+    private static volatile RunnerClassLoader recordingClassLoader;
+    private static volatile Path profilePath;
+    private static volatile boolean startupComplete;
+
+    private ClassLoadingProfile() {
+    }
+
+    /**
+     *
+     * @return the preloading thread, or null if the profile is being recorded or does not exist
+     */
+    static Thread start(RunnerClassLoader runnerClassLoader, Path appRoot) {
+        startupComplete = false;
+        Path profile = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE);
+        if (isGenerating()) {
+            profilePath = profile;
+            recordingClassLoader = runnerClassLoader;
+            runnerClassLoader.startRecording();
+        } else if (Files.exists(profile)) {
+            Thread preloader = new Thread(new Preloader(runnerClassLoader, profile), "quarkus-class-preloader");
+            preloader.setDaemon(true);
+            preloader.start();
+            return preloader;
+        }
+        return null;
+    }
+
+    /**
+     *
+     * @return true if the application was launched to generate the class loading profile
+     */
+    public static boolean isGenerating() {
+        return Boolean.getBoolean(GENERATE_SYSTEM_PROPERTY);
+    }
+
+    /**
+     * Called once the application has started. This stops the preloading thread and writes the profile if it is
+     * being recorded.
+     */
+    public static void startupComplete() {
+        startupComplete = true;
+        RunnerClassLoader classLoader = recordingClassLoader;
+        if (classLoader == null) {
+            return;
+        }
+        recordingClassLoader = null;
+        List<String> classes = classLoader.stopRecording();
+        try {
+            Files.write(profilePath, classes, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logger.getLogger(ClassLoadingProfile.class).error("Failed to write the class loading profile", e);
+        }
+    }
+
+    private static final class Preloader implements Runnable {
+
+        private final RunnerClassLoader classLoader;
+        private final Path profile;
+
+        Preloader(RunnerClassLoader classLoader, Path profile) {
+            this.classLoader = classLoader;
+            this.profile = profile;
+        }
+
+        @Override
+        public void run() {
+            List<String> classes;
+            try {
+                classes = Files.readAllLines(profile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                //the profile is just an optimisation
+                return;
+            }
+            for (String name : classes) {
+                if (startupComplete) {
+                    return;
+                }
+                if (name.isEmpty()) {
+                    continue;
+                }
+                try {
+                    //we only define the class, it is initialized by the main thread when it is actually used
+                    Class.forName(name, false, classLoader);
+                } catch (Throwable ignored) {
+                    //the profile may be out of date, the main thread will report any real problem
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * An index of the entries of a jar file that allows the entry data to be read directly from a memory mapped
+ * jar, without using {@link java.util.zip.ZipFile}.
+ *
+ * The index is created at build time by reading the central directory of the jar, and contains the offset
+ * of the data of each entry, its compressed and uncompressed sizes and the compression method.
+ *
+ * Only jars smaller than 2GB without zip64 records or encrypted entries can be indexed, other jars are read
+ * using {@link java.util.zip.ZipFile}.
+ */
+public class JarEntryIndex {
+
+    static final int STORED = 0;
+    static final int DEFLATED = 8;
+
+    private static final int LOC_SIG = 0x04034b50;
+    private static final int CEN_SIG = 0x02014b50;
+    private static final int END_SIG = 0x06054b50;
+    private static final int LOC_HEADER_SIZE = 30;
+    private static final int CEN_HEADER_SIZE = 46;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private final Map<String, Integer> entries;
+    private final int[] offsets;
+    private final int[] compressedSizes;
+    private final int[] sizes;
+    private final byte[] methods;
+
+    private JarEntryIndex(Map<String, Integer> entries, int[] offsets, int[] compressedSizes, int[] sizes,
+            byte[] methods) {
+        this.entries = entries;
+        this.offsets = offsets;
+        this.compressedSizes = compressedSizes;
+        this.sizes = sizes;
+        this.methods = methods;
+    }
+
+    /**
+     *
+     * @param resource The resource name
+     * @return true if the jar contains an entry with the given name
+     */
+    boolean contains(String resource) {
+        return entries.containsKey(resource);
+    }
+
+    /**
+     * Reads the data of an entry from the mapped jar.
+     *
+     * @param jar The memory mapped jar file
+     * @param resource The resource name
+     * @return The entry data, or null if there is no such entry
+     */
+    byte[] getData(ByteBuffer jar, String resource) {
+        Integer index = entries.get(resource);
+        if (index == null) {
+            return null;
+        }
+        int i = index;
+        ByteBuffer buffer = jar.duplicate();
+        buffer.position(offsets[i]);
+        if (methods[i] == STORED) {
+            byte[] data = new byte[sizes[i]];
+            buffer.get(data);
+            return data;
+        }
+        //the inflater may need an extra dummy byte when the nowrap option is used
+        byte[] compressed = new byte[compressedSizes[i] + 1];
+        buffer.get(compressed, 0, compressedSizes[i]);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] data = new byte[sizes[i]];
+            int pos = 0;
+            while (pos < data.length) {
+                int read = inflater.inflate(data, pos, data.length - pos);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new RuntimeException("Failed to read all data for " + resource);
+                }
+                pos += read;
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Failed to inflate zip entry " + resource, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(entries.size());
+        for (Map.Entry<String, Integer> e : entries.entrySet()) {
+            int i = e.getValue();
+            out.writeUTF(e.getKey());
+            out.writeByte(methods[i]);
+            out.writeInt(offsets[i]);
+            out.writeInt(compressedSizes[i]);
+            out.writeInt(sizes[i]);
+        }
+    }
+
+    static JarEntryIndex read(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Integer> entries = new HashMap<>((int) (size / 0.75f) + 1);
+        int[] offsets = new int[size];
+        int[] compressedSizes = new int[size];
+        int[] sizes = new int[size];
+        byte[] methods = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            entries.put(in.readUTF(), i);
+            methods[i] = in.readByte();
+            offsets[i] = in.readInt();
+            compressedSizes[i] = in.readInt();
+            sizes[i] = in.readInt();
+        }
+        return new JarEntryIndex(entries, offsets, compressedSizes, sizes, methods);
+    }
+
+    /**
+     * Creates an index by reading the central directory of the given jar.
+     *
+     * @param jar The jar file
+     * @return The index, or null if the jar cannot be indexed
+     */
+    static JarEntryIndex create(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE || fileSize < END_HEADER_SIZE) {
+                //cannot be mapped as a single buffer
+                return null;
+            }
+            //the end of central directory record is followed by a comment of up to 64k
+            int tailSize = (int) Math.min(fileSize, END_HEADER_SIZE + MAX_COMMENT_SIZE);
+            ByteBuffer tail = read(channel, fileSize - tailSize, tailSize);
+            int end = -1;
+            for (int pos = tailSize - END_HEADER_SIZE; pos >= 0; --pos) {
+                if (tail.getInt(pos) == END_SIG) {
+                    end = pos;
+                    break;
+                }
+            }
+            if (end == -1) {
+                return null;
+            }
+            int count = tail.getShort(end + 10) & 0xFFFF;
+            long centralDirectorySize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+            long centralDirectoryOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+            if (count == 0xFFFF || centralDirectorySize == 0xFFFFFFFFL || centralDirectoryOffset == 0xFFFFFFFFL) {
+                //zip64
+                return null;
+            }
+            ByteBuffer cen = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+            Map<String, int[]> found = new LinkedHashMap<>();
+            int pos = 0;
+            for (int i = 0; i < count; ++i) {
+                if (cen.getInt(pos) != CEN_SIG) {
+                    return null;
+                }
+                int flags = cen.getShort(pos + 8) & 0xFFFF;
+                int method = cen.getShort(pos + 10) & 0xFFFF;
+                long compressedSize = cen.getInt(pos + 20) & 0xFFFFFFFFL;
+                long size = cen.getInt(pos + 24) & 0xFFFFFFFFL;
+                int nameLength = cen.getShort(pos + 28) & 0xFFFF;
+                int extraLength = cen.getShort(pos + 30) & 0xFFFF;
+                int commentLength = cen.getShort(pos + 32) & 0xFFFF;
+                long localHeaderOffset = cen.getInt(pos + 42) & 0xFFFFFFFFL;
+                byte[] nameBytes = new byte[nameLength];
+                ByteBuffer nameBuffer = cen.duplicate();
+                nameBuffer.position(pos + CEN_HEADER_SIZE);
+                nameBuffer.get(nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                pos += CEN_HEADER_SIZE + nameLength + extraLength + commentLength;
+                if ((flags & 1) != 0 || (method != STORED && method != DEFLATED) || compressedSize == 0xFFFFFFFFL
+                        || size == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+                    //encrypted, unsupported compression method or zip64
+                    return null;
+                }
+                ByteBuffer loc = read(channel, localHeaderOffset, LOC_HEADER_SIZE);
+                if (loc.getInt(0) != LOC_SIG) {
+                    return null;
+                }
+                long dataOffset = localHeaderOffset + LOC_HEADER_SIZE + (loc.getShort(26) & 0xFFFF)
+                        + (loc.getShort(28) & 0xFFFF);
+                if (dataOffset + compressedSize > fileSize) {
+                    return null;
+                }
+                if (!found.containsKey(name)) {
+                    found.put(name, new int[] { method, (int) dataOffset, (int) compressedSize, (int) size });
+                }
+            }
+            Map<String, Integer> entries = new HashMap<>((int) (found.size() / 0.75f) + 1);
+            int[] offsets = new int[found.size()];
+            int[] compressedSizes = new int[found.size()];
+            int[] sizes = new int[found.size()];
+            byte[] methods = new byte[found.size()];
+            int i = 0;
+            for (Map.Entry<String, int[]> e : found.entrySet()) {
+                int[] entry = e.getValue();
+                entries.put(e.getKey(), i);
+                methods[i] = (byte) entry[0];
+                offsets[i] = entry[1];
+                compressedSizes[i] = entry[2];
+                sizes[i] = entry[3];
+                ++i;
+            }
+            //like ZipFile.getEntry() a directory can also be found by its name without the trailing slash
+            for (Map.Entry<String, int[]> e : found.entrySet()) {
+                String name = e.getKey();
+                if (name.endsWith("/") && name.length() > 1) {
+                    entries.putIfAbsent(name.substring(0, name.length() - 1), entries.get(name));
+                }
+            }
+            return new JarEntryIndex(entries, offsets, compressedSizes, sizes, methods);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
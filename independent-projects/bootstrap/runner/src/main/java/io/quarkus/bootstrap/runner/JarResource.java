@@ -6,7 +6,11 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
 import java.security.cert.Certificate;
@@ -15,20 +19,36 @@ import java.util.zip.ZipFile;
 
 /**
  * A jar resource
+ *
+ * If an entry index was created at build time the jar is memory mapped and the entry data is read
+ * directly from the mapped buffer, otherwise the jar is read using a {@link ZipFile}.
  */
 public class JarResource implements ClassLoadingResource {
 
     private final ManifestInfo manifestInfo;
     private final Path jarPath;
+    private final JarEntryIndex entryIndex;
     private volatile ZipFile zipFile;
+    private volatile ByteBuffer mappedFile;
 
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this(manifestInfo, jarPath, null);
+    }
+
+    public JarResource(ManifestInfo manifestInfo, Path jarPath, JarEntryIndex entryIndex) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
+        this.entryIndex = entryIndex;
     }
 
     @Override
     public byte[] getResourceData(String resource) {
+        if (entryIndex != null) {
+            if (!entryIndex.contains(resource)) {
+                return null;
+            }
+            return entryIndex.getData(mappedFile(), resource);
+        }
         ZipFile zipFile = file();
         ZipEntry entry = zipFile.getEntry(resource);
         if (entry == null) {
@@ -54,9 +74,11 @@ public class JarResource implements ClassLoadingResource {
 
     @Override
     public URL getResourceURL(String resource) {
-        ZipFile zipFile = file();
-        ZipEntry entry = zipFile.getEntry(resource);
-        if (entry == null) {
+        if (entryIndex != null) {
+            if (!entryIndex.contains(resource)) {
+                return null;
+            }
+        } else if (file().getEntry(resource) == null) {
             return null;
         }
         try {
@@ -105,8 +127,27 @@ public class JarResource implements ClassLoadingResource {
         return zipFile;
     }
 
+    private ByteBuffer mappedFile() {
+        if (mappedFile == null) {
+            synchronized (this) {
+                if (mappedFile == null) {
+                    //the mapping stays valid after the channel is closed
+                    try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+                        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                        return mappedFile = buffer;
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to map " + jarPath, e);
+                    }
+                }
+            }
+        }
+        return mappedFile;
+    }
+
     @Override
     public void close() {
+        //a mapped buffer cannot be explicitly unmapped, it is released once it is garbage collected
+        mappedFile = null;
         if (zipFile != null) {
             try {
                 zipFile.close();
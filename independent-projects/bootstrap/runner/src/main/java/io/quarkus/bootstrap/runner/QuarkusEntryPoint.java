@@ -16,6 +16,7 @@ import java.util.List;
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_CLASS_LOADING_PROFILE = "quarkus/class-loading-profile.lst";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
 
     public static void main(String... args) throws Throwable {
@@ -38,6 +39,7 @@ public class QuarkusEntryPoint {
             SerializedApplication app = null;
             try (InputStream in = Files.newInputStream(appRoot.resolve(QUARKUS_APPLICATION_DAT))) {
                 app = SerializedApplication.read(in, appRoot);
+                ClassLoadingProfile.start(app.getRunnerClassLoader(), appRoot);
                 Thread.currentThread().setContextClassLoader(app.getRunnerClassLoader());
                 Class<?> mainClass = app.getRunnerClassLoader().loadClass(app.getMainClass());
                 mainClass.getMethod("main", String[].class).invoke(null, args);
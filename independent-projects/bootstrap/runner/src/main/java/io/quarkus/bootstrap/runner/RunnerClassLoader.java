@@ -8,8 +8,10 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
@@ -27,6 +29,12 @@ public class RunnerClassLoader extends ClassLoader {
 
     private final ConcurrentMap<ClassLoadingResource, ProtectionDomain> protectionDomains = new ConcurrentHashMap<>();
 
+    /**
+     * The names of the classes defined by this class loader, in the order they were defined. This is only non-null
+     * while a class loading profile is being recorded.
+     */
+    private volatile Queue<String> recordedClasses;
+
     static {
         registerAsParallelCapable();
     }
@@ -75,13 +83,18 @@ public class RunnerClassLoader extends ClassLoader {
                         continue;
                     }
                     definePackage(packageName, resources);
-                    return defineClass(name, data, 0, data.length,
+                    Class<?> defined = defineClass(name, data, 0, data.length,
                             protectionDomains.computeIfAbsent(resource, new Function<ClassLoadingResource, ProtectionDomain>() {
                                 @Override
                                 public ProtectionDomain apply(ClassLoadingResource ce) {
                                     return ce.getProtectionDomain(RunnerClassLoader.this);
                                 }
                             }));
+                    Queue<String> recorded = recordedClasses;
+                    if (recorded != null) {
+                        recorded.add(name);
+                    }
+                    return defined;
                 }
             }
         }
@@ -203,6 +216,27 @@ public class RunnerClassLoader extends ClassLoader {
         }
     }
 
+    /**
+     * Starts recording the names of the classes defined by this class loader.
+     */
+    void startRecording() {
+        recordedClasses = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Stops recording the classes defined by this class loader.
+     *
+     * @return The names of the classes defined since {@link #startRecording()} was called, in definition order
+     */
+    List<String> stopRecording() {
+        Queue<String> recorded = recordedClasses;
+        recordedClasses = null;
+        if (recorded == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(recorded);
+    }
+
     public void close() {
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
@@ -1,5 +1,6 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -30,7 +31,7 @@ import java.util.zip.ZipEntry;
 public class SerializedApplication {
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 1;
+    private static final int VERSION = 2;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -51,6 +52,16 @@ public class SerializedApplication {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, false);
+    }
+
+    /**
+     * @param indexJarEntries If true the entries of each jar are indexed so that the jars can be memory mapped
+     *        and read without {@link JarFile} at runtime
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, boolean indexJarEntries)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
@@ -60,6 +71,13 @@ public class SerializedApplication {
                 String relativePath = applicationRoot.relativize(jar).toString().replace("\\", "/");
                 data.writeUTF(relativePath);
                 writeJar(data, jar);
+                JarEntryIndex entryIndex = indexJarEntries ? JarEntryIndex.create(jar) : null;
+                if (entryIndex == null) {
+                    data.writeBoolean(false);
+                } else {
+                    data.writeBoolean(true);
+                    entryIndex.write(data);
+                }
             }
             Set<String> parentFirstPackages = new HashSet<>();
 
@@ -75,7 +93,7 @@ public class SerializedApplication {
     }
 
     public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
-        try (DataInputStream in = new DataInputStream(inputStream)) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream))) {
             if (in.readInt() != MAGIC) {
                 throw new RuntimeException("Wrong magic number");
             }
@@ -94,10 +112,14 @@ public class SerializedApplication {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
                 int numDirs = in.readInt();
+                String[] dirs = new String[numDirs];
                 for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
+                    dirs[i] = in.readUTF();
+                }
+                JarEntryIndex entryIndex = in.readBoolean() ? JarEntryIndex.read(in) : null;
+                JarResource resource = new JarResource(info, appRoot.resolve(path), entryIndex);
+                for (String dir : dirs) {
                     ClassLoadingResource[] existing = resourceDirectoryMap.get(dir);
                     if (existing == null) {
                         resourceDirectoryMap.put(dir, new ClassLoadingResource[] { resource });
@@ -0,0 +1,115 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClassLoadingProfileTestCase {
+
+    private static final String PACKAGE_DIR = "io/quarkus/bootstrap/runner";
+
+    @Test
+    public void testRecordAndPreload() throws Exception {
+        Path appRoot = Files.createTempDirectory("quarkus-app");
+        Path jar = appRoot.resolve("test.jar");
+        Path profile = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE);
+        try {
+            Files.createDirectories(profile.getParent());
+            try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+                for (Class<?> c : Arrays.asList(First.class, Second.class, Third.class)) {
+                    String name = c.getName().replace('.', '/') + ".class";
+                    zip.putNextEntry(new ZipEntry(name));
+                    try (InputStream in = getClass().getClassLoader().getResourceAsStream(name)) {
+                        byte[] buf = new byte[1024];
+                        int r;
+                        while ((r = in.read(buf)) > 0) {
+                            zip.write(buf, 0, r);
+                        }
+                    }
+                    zip.closeEntry();
+                }
+            }
+
+            //record the classes that are loaded during 'startup'
+            RunnerClassLoader recording = classLoader(jar);
+            System.setProperty(ClassLoadingProfile.GENERATE_SYSTEM_PROPERTY, "true");
+            try {
+                Assertions.assertNull(ClassLoadingProfile.start(recording, appRoot));
+            } finally {
+                System.clearProperty(ClassLoadingProfile.GENERATE_SYSTEM_PROPERTY);
+            }
+            Class<?> second = recording.loadClass(Second.class.getName());
+            Assertions.assertSame(recording, second.getClassLoader());
+            recording.loadClass(First.class.getName());
+            ClassLoadingProfile.startupComplete();
+            recording.close();
+
+            List<String> recorded = Files.readAllLines(profile, StandardCharsets.UTF_8);
+            Assertions.assertEquals(Arrays.asList(Second.class.getName(), First.class.getName()), recorded);
+
+            //preload the classes from the profile on a new class loader
+            RunnerClassLoader preloading = classLoader(jar);
+            Thread preloader = ClassLoadingProfile.start(preloading, appRoot);
+            Assertions.assertNotNull(preloader);
+            preloader.join(10000);
+            Assertions.assertFalse(preloader.isAlive());
+            ClassLoadingProfile.startupComplete();
+
+            //the preloaded classes are already defined, but not initialized
+            Assertions.assertNull(System.getProperty(First.class.getName()));
+            Assertions.assertNull(System.getProperty(Second.class.getName()));
+            preloading.startRecording();
+            Class<?> first = preloading.loadClass(First.class.getName());
+            preloading.loadClass(Second.class.getName());
+            Assertions.assertEquals(Collections.emptyList(), preloading.stopRecording());
+            Assertions.assertSame(preloading, first.getClassLoader());
+
+            //classes that are not in the profile are still defined on demand
+            preloading.startRecording();
+            preloading.loadClass(Third.class.getName());
+            Assertions.assertEquals(Collections.singletonList(Third.class.getName()), preloading.stopRecording());
+            preloading.close();
+        } finally {
+            Files.deleteIfExists(profile);
+            Files.deleteIfExists(profile.getParent());
+            Files.deleteIfExists(jar);
+            Files.deleteIfExists(appRoot);
+        }
+    }
+
+    private static RunnerClassLoader classLoader(Path jar) {
+        Map<String, ClassLoadingResource[]> resources = new HashMap<>();
+        resources.put(PACKAGE_DIR, new ClassLoadingResource[] { new JarResource(null, jar) });
+        return new RunnerClassLoader(ClassLoadingProfileTestCase.class.getClassLoader(), resources,
+                Collections.emptySet());
+    }
+
+    public static class First {
+        static {
+            System.setProperty(First.class.getName(), "initialized");
+        }
+    }
+
+    public static class Second {
+        static {
+            System.setProperty(Second.class.getName(), "initialized");
+        }
+    }
+
+    public static class Third {
+        static {
+            System.setProperty(Third.class.getName(), "initialized");
+        }
+    }
+}
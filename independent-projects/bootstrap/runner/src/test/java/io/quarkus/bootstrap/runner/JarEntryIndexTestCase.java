@@ -0,0 +1,84 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JarEntryIndexTestCase {
+
+    @Test
+    public void testReadStoredAndDeflatedEntries() throws Exception {
+        byte[] stored = "stored entry".getBytes(StandardCharsets.UTF_8);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("deflated entry ").append(i);
+        }
+        byte[] deflated = sb.toString().getBytes(StandardCharsets.UTF_8);
+        Path jar = Files.createTempFile("test", "quarkus-test.jar");
+        try {
+            try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+                zip.putNextEntry(new ZipEntry("org/acme/"));
+                zip.closeEntry();
+                ZipEntry storedEntry = new ZipEntry("org/acme/Stored.class");
+                storedEntry.setMethod(ZipEntry.STORED);
+                storedEntry.setSize(stored.length);
+                CRC32 crc = new CRC32();
+                crc.update(stored);
+                storedEntry.setCrc(crc.getValue());
+                zip.putNextEntry(storedEntry);
+                zip.write(stored);
+                zip.closeEntry();
+                zip.putNextEntry(new ZipEntry("org/acme/Deflated.class"));
+                zip.write(deflated);
+                zip.closeEntry();
+                zip.putNextEntry(new ZipEntry("org/acme/empty.txt"));
+                zip.closeEntry();
+            }
+
+            JarEntryIndex index = JarEntryIndex.create(jar);
+            Assertions.assertNotNull(index);
+            //the index survives serialization
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                index.write(out);
+            }
+            index = JarEntryIndex.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+            ByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            //directories are found with and without the trailing slash, like with ZipFile.getEntry()
+            Assertions.assertTrue(index.contains("org/acme/"));
+            Assertions.assertArrayEquals(new byte[0], index.getData(mapped, "org/acme"));
+            JarResource resource = new JarResource(null, jar, index);
+            try {
+                Assertions.assertNotNull(resource.getResourceURL("org/acme"));
+                Assertions.assertNotNull(resource.getResourceURL("org/acme/"));
+                Assertions.assertNull(resource.getResourceURL("org/acm"));
+            } finally {
+                resource.close();
+            }
+            Assertions.assertFalse(index.contains("org/acme/Missing.class"));
+            Assertions.assertNull(index.getData(mapped, "org/acme/Missing.class"));
+            Assertions.assertArrayEquals(stored, index.getData(mapped, "org/acme/Stored.class"));
+            Assertions.assertArrayEquals(deflated, index.getData(mapped, "org/acme/Deflated.class"));
+            Assertions.assertArrayEquals(new byte[0], index.getData(mapped, "org/acme/empty.txt"));
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+}
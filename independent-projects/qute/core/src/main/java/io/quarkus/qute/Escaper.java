@@ -1,8 +1,8 @@
 package io.quarkus.qute;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -10,15 +10,22 @@ import java.util.Objects;
  */
 public final class Escaper {
 
-    private final Map<Character, String> replacements;
+    // Replacements indexed by character; there are no replacements for characters beyond the end of the array
+    private final String[] replacements;
 
     /**
      *
      * @param replacements
      */
     private Escaper(Map<Character, String> replacements) {
-        this.replacements = replacements.isEmpty() ? Collections.emptyMap()
-                : new HashMap<>(replacements);
+        char max = 0;
+        for (Character c : replacements.keySet()) {
+            max = (char) Math.max(max, c);
+        }
+        this.replacements = new String[replacements.isEmpty() ? 0 : max + 1];
+        for (Entry<Character, String> entry : replacements.entrySet()) {
+            this.replacements[entry.getKey()] = entry.getValue();
+        }
     }
 
     /**
@@ -31,13 +38,19 @@ public final class Escaper {
         if (value.length() == 0) {
             return value.toString();
         }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacements.get(value.charAt(i));
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= replacements.length) {
+                continue;
+            }
+            String replacement = replacements[c];
             if (replacement != null) {
                 // In most cases we will not need to escape the value at all
                 return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
             }
         }
+        // Nothing to escape - strings are returned as is
         return value.toString();
     }
 
@@ -45,7 +58,7 @@ public final class Escaper {
         int length = value.length();
         while (++index < length) {
             char c = value.charAt(index);
-            String replacement = replacements.get(c);
+            String replacement = c < replacements.length ? replacements[c] : null;
             if (replacement != null) {
                 builder.append(replacement);
             } else {
@@ -34,7 +34,12 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (Futures.isCompletedNormally(result)) {
+                // No need to compose - the value is already available
+                return parts.hasNext() ? resolveReference(false, Futures.getNow(result), parts, resolutionContext) : result;
+            }
+            return result.thenCompose(r -> {
                 if (parts.hasNext()) {
                     return resolveReference(false, r, parts, resolutionContext);
                 } else {
@@ -69,13 +74,16 @@ class EvaluatorImpl implements Evaluator {
             ResolutionContext resolutionContext) {
         Part part = parts.next();
         EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
+        CompletionStage<Object> result = resolve(evalContext, resolvers.iterator());
         if (!parts.hasNext()) {
             // The last part - no need to compose
-            return resolve(evalContext, resolvers.iterator());
+            return result;
+        } else if (Futures.isCompletedNormally(result)) {
+            // Next part - the value is already available so there is no need to compose either
+            return resolveReference(false, Futures.getNow(result), parts, resolutionContext);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, resolvers.iterator())
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
         }
     }
 
@@ -93,7 +101,12 @@ class EvaluatorImpl implements Evaluator {
         }
         ValueResolver resolver = resolvers.next();
         if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
+            CompletionStage<Object> result = resolver.resolve(evalContext);
+            if (Futures.isCompletedNormally(result)) {
+                // No need to compose - the value is already available
+                return Result.NOT_FOUND.equals(Futures.getNow(result)) ? resolve(evalContext, resolvers) : result;
+            }
+            return result.thenCompose(r -> {
                 if (Result.NOT_FOUND.equals(r)) {
                     return resolve(evalContext, resolvers);
                 } else {
@@ -17,15 +17,83 @@ public final class Futures {
         return failure;
     }
 
+    /**
+     * 
+     * @param stage
+     * @return {@code true} if the result of the stage is already available, i.e. it does not need to be composed
+     */
+    static boolean isCompletedNormally(CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * 
+     * @param stage A stage for which {@link #isCompletedNormally(CompletionStage)} returns {@code true}
+     * @return the result of the stage
+     */
+    static <T> T getNow(CompletionStage<T> stage) {
+        return ((CompletableFuture<T>) stage).join();
+    }
+
+    /**
+     * The results are collected synchronously if all the stages are already completed. Otherwise, the returned stage
+     * is completed when all the stages are completed.
+     * 
+     * @param stages
+     * @return a stage holding a result node backed by the results of all the stages
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<ResultNode> allOf(CompletionStage<ResultNode>[] stages) {
+        ResultNode[] nodes = new ResultNode[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            if (!isCompletedNormally(stages[i])) {
+                // At least one result is not available yet
+                CompletableFuture<ResultNode> result = new CompletableFuture<>();
+                CompletableFuture<ResultNode>[] all = new CompletableFuture[stages.length];
+                for (int j = 0; j < stages.length; j++) {
+                    all[j] = stages[j].toCompletableFuture();
+                }
+                CompletableFuture
+                        .allOf(all)
+                        .whenComplete((v, t) -> {
+                            if (t != null) {
+                                result.completeExceptionally(t);
+                            } else {
+                                result.complete(new MultiResultNode(all));
+                            }
+                        });
+                return result;
+            }
+            nodes[i] = getNow(stages[i]);
+        }
+        return CompletableFuture.completedFuture(new MultiResultNode(nodes));
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
-        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
         CompletableFuture<Object>[] results = new CompletableFuture[parameters.size()];
+        boolean completed = true;
         int idx = 0;
         for (Entry<String, Expression> entry : parameters.entrySet()) {
-            results[idx++] = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            CompletableFuture<Object> value = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            completed = completed && isCompletedNormally(value);
+            results[idx++] = value;
         }
+        if (completed) {
+            // All values are already available - keep the map mutable
+            Map<String, Object> paramValues = new HashMap<>();
+            int j = 0;
+            for (Entry<String, Expression> entry : parameters.entrySet()) {
+                paramValues.put(entry.getKey(), getNow(results[j++]));
+            }
+            return CompletableFuture.completedFuture(paramValues);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
         CompletableFuture.allOf(results).whenComplete((v, t1) -> {
             if (t1 != null) {
                 result.completeExceptionally(t1);
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -30,42 +29,38 @@ public class LoopSectionHelper implements SectionHelper {
         this.iterable = Objects.requireNonNull(iterable);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
-            if (it == null) {
-                throw new TemplateException(String.format(
-                        "Loop section error in template %s on line %s: [%s] resolved to [null] which is not iterable",
-                        iterable.getOrigin().getTemplateId(), iterable.getOrigin().getLine(), iterable.toOriginalString()));
-            }
-            List<CompletionStage<ResultNode>> results = new ArrayList<>();
-            Iterator<?> iterator = extractIterator(it);
-            int idx = 0;
-            // Ideally, we should not block here but we still need to retain the order of results
-            while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
-            }
-            if (results.isEmpty()) {
-                return CompletableFuture.completedFuture(ResultNode.NOOP);
+        CompletionStage<Object> iterableResult = context.resolutionContext().evaluate(iterable);
+        if (Futures.isCompletedNormally(iterableResult)) {
+            // No need to compose - the iterable is already available
+            try {
+                return resolveElements(Futures.getNow(iterableResult), context);
+            } catch (Throwable e) {
+                return Futures.failure(e);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<>();
-            CompletableFuture<ResultNode>[] all = new CompletableFuture[results.size()];
-            idx = 0;
-            for (CompletionStage<ResultNode> r : results) {
-                all[idx++] = r.toCompletableFuture();
-            }
-            CompletableFuture
-                    .allOf(all)
-                    .whenComplete((v, t) -> {
-                        if (t != null) {
-                            result.completeExceptionally(t);
-                        } else {
-                            result.complete(new MultiResultNode(all));
-                        }
-                    });
-            return result;
-        });
+        }
+        return iterableResult.thenCompose(it -> resolveElements(it, context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<ResultNode> resolveElements(Object it, SectionResolutionContext context) {
+        if (it == null) {
+            throw new TemplateException(String.format(
+                    "Loop section error in template %s on line %s: [%s] resolved to [null] which is not iterable",
+                    iterable.getOrigin().getTemplateId(), iterable.getOrigin().getLine(), iterable.toOriginalString()));
+        }
+        List<CompletionStage<ResultNode>> results = new ArrayList<>();
+        Iterator<?> iterator = extractIterator(it);
+        int idx = 0;
+        // Ideally, we should not block here but we still need to retain the order of results
+        while (iterator.hasNext()) {
+            results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
+        }
+        if (results.isEmpty()) {
+            return CompletableFuture.completedFuture(ResultNode.NOOP);
+        }
+        return Futures.allOf(results.toArray(new CompletionStage[results.size()]));
     }
 
     private Iterator<?> extractIterator(Object it) {
@@ -90,10 +85,8 @@ public class LoopSectionHelper implements SectionHelper {
     }
 
     CompletionStage<ResultNode> nextElement(Object element, int index, boolean hasNext, SectionResolutionContext context) {
-        AtomicReference<ResolutionContext> resolutionContextHolder = new AtomicReference<>();
         ResolutionContext child = context.resolutionContext().createChild(new IterationElement(alias, element, index, hasNext),
                 null);
-        resolutionContextHolder.set(child);
         return context.execute(child);
     }
 
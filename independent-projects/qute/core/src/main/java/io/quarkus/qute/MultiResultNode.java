@@ -23,6 +23,10 @@ public class MultiResultNode implements ResultNode {
         this.results = results;
     }
 
+    MultiResultNode(ResultNode[] results) {
+        this.results = results;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
         for (ResultNode result : results) {
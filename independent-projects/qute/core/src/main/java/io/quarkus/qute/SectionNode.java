@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -124,23 +123,13 @@ class SectionNode implements TemplateNode {
             if (block.nodes.size() == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             @SuppressWarnings("unchecked")
-            CompletableFuture<ResultNode>[] results = new CompletableFuture[block.nodes.size()];
+            CompletionStage<ResultNode>[] results = new CompletionStage[block.nodes.size()];
             int idx = 0;
             for (TemplateNode node : block.nodes) {
-                results[idx++] = node.resolve(context).toCompletableFuture();
+                results[idx++] = node.resolve(context);
             }
-            CompletableFuture
-                    .allOf(results)
-                    .whenComplete((v, t) -> {
-                        if (t != null) {
-                            result.completeExceptionally(t);
-                        } else {
-                            result.complete(new MultiResultNode(results));
-                        }
-                    });
-            return result;
+            return Futures.allOf(results);
         }
 
         @Override
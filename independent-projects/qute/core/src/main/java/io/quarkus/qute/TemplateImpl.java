@@ -82,24 +82,43 @@ class TemplateImpl implements Template {
         @Override
         public CompletionStage<String> renderAsync() {
             StringBuilder builder = new StringBuilder();
-            return renderData(data(), builder::append).thenApply(v -> builder.toString());
+            return renderData(builder::append).thenApply(v -> builder.toString());
         }
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
-            return renderData(data(), resultConsumer);
+            return renderData(resultConsumer);
         }
 
-        private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+        @Override
+        public CompletionStage<ResultNode> resolve() {
             DataNamespaceResolver dataResolver = new DataNamespaceResolver();
             List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                     .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
-            ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
+            ResolutionContext rootContext = new ResolutionContextImpl(null, data(), namespaceResolvers,
                     engine.getEvaluator(), null, this);
             dataResolver.rootContext = rootContext;
+            try {
+                return root.resolve(rootContext);
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+        }
+
+        private CompletionStage<Void> renderData(Consumer<String> consumer) {
+            CompletionStage<ResultNode> rootResult = resolve();
+            if (Futures.isCompletedNormally(rootResult)) {
+                // Sync resolution - all the values were already available
+                try {
+                    Futures.getNow(rootResult).process(consumer);
+                    return CompletableFuture.completedFuture(null);
+                } catch (Throwable e) {
+                    return Futures.failure(e);
+                }
+            }
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            rootResult.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -1,6 +1,8 @@
 package io.quarkus.qute;
 
 import io.smallrye.mutiny.Multi;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
@@ -102,4 +104,23 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers the resolution of all the values used by the template. Unlike {@link #consume(Consumer)} the result tree
+     * is not processed, so the caller decides when and on which thread the output is produced, e.g. directly into an
+     * output stream.
+     * 
+     * @return a completion stage that is completed with the result tree once all the values are resolved
+     * @see ResultNode#process(Consumer)
+     */
+    default CompletionStage<ResultNode> resolve() {
+        List<String> parts = new ArrayList<>();
+        return consume(parts::add).thenApply(v -> new ResultNode() {
+
+            @Override
+            public void process(Consumer<String> resultConsumer) {
+                parts.forEach(resultConsumer);
+            }
+        });
+    }
+
 }
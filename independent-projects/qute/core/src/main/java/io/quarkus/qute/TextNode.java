@@ -1,21 +1,27 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
  * Static text.
+ * <p>
+ * The text is encoded in UTF-8 when the node is created so that a {@link Utf8ResultConsumer} can write the bytes
+ * directly.
  */
 public class TextNode implements TemplateNode, ResultNode {
 
     private final CompletableFuture<ResultNode> result;
     private final String value;
+    private final byte[] utf8;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletableFuture.completedFuture(this);
         this.value = value;
+        this.utf8 = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -34,7 +40,11 @@ public class TextNode implements TemplateNode, ResultNode {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8ResultConsumer) {
+            ((Utf8ResultConsumer) consumer).acceptUtf8(value, utf8);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
@@ -0,0 +1,22 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A result consumer that is able to accept the static text of a template in the form of UTF-8 bytes.
+ * <p>
+ * The static text is encoded once when the template is parsed. A consumer that writes UTF-8 bytes can implement this
+ * interface to avoid encoding the text again whenever the template is rendered.
+ * 
+ * @see TextNode
+ */
+public interface Utf8ResultConsumer extends Consumer<String> {
+
+    /**
+     * 
+     * @param text
+     * @param utf8 The text encoded in UTF-8, must not be modified
+     */
+    void acceptUtf8(String text, byte[] utf8);
+
+}
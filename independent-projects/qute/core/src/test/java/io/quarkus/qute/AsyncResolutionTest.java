@@ -0,0 +1,107 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AsyncResolutionTest {
+
+    private static final String TEMPLATE = "{#for item in items}{count}.{item.name}:{#if item.active}on{#else}off{/if}"
+            + "{#if hasNext},{/if}{/for}";
+
+    @Test
+    public void testSyncResolution() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletableFuture<String> result = engine.parse(TEMPLATE).data("items", items()).renderAsync()
+                .toCompletableFuture();
+        // All the values are available - no need to wait
+        assertTrue(result.isDone());
+        assertEquals("1.alpha:on,2.bravo:off,3.charlie:on", result.join());
+    }
+
+    @Test
+    public void testResolve() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletableFuture<ResultNode> result = engine.parse(TEMPLATE).data("items", items()).resolve()
+                .toCompletableFuture();
+        assertTrue(result.isDone());
+        // The result tree can be processed later, any number of times
+        StringBuilder builder = new StringBuilder();
+        result.join().process(builder::append);
+        assertEquals("1.alpha:on,2.bravo:off,3.charlie:on", builder.toString());
+        List<String> parts = new ArrayList<>();
+        result.join().process(parts::add);
+        assertEquals(builder.toString(), String.join("", parts));
+    }
+
+    @Test
+    public void testAsyncResolution() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+                @Override
+                public boolean appliesTo(EvalContext context) {
+                    return context.getBase() instanceof Map && context.getName().equals("name");
+                }
+
+                @Override
+                public int getPriority() {
+                    return WithPriority.DEFAULT_PRIORITY + 1;
+                }
+
+                @Override
+                public CompletionStage<Object> resolve(EvalContext context) {
+                    return CompletableFuture.supplyAsync(() -> ((Map<?, ?>) context.getBase()).get("name"), executor);
+                }
+            }).build();
+            assertEquals("1.alpha:on,2.bravo:off,3.charlie:on", engine.parse(TEMPLATE).data("items", items()).render());
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testSyncResolutionFailure() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletableFuture<String> result = engine.parse("{#for item in items}{item}{/for}").data("items", null)
+                .renderAsync().toCompletableFuture();
+        assertTrue(result.isCompletedExceptionally());
+        try {
+            result.get();
+            fail();
+        } catch (InterruptedException e) {
+            fail(e);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TemplateException);
+            assertFalse(e.getCause().getMessage().isEmpty());
+        }
+    }
+
+    private List<Map<String, Object>> items() {
+        List<Map<String, Object>> items = new ArrayList<>();
+        String[] names = { "alpha", "bravo", "charlie" };
+        for (int i = 0; i < names.length; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("name", names[i]);
+            item.put("active", i % 2 == 0);
+            items.add(item);
+        }
+        return items;
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.quarkus.qute.TemplateNode.Origin;
 import java.io.IOException;
@@ -16,11 +17,16 @@ public class EscaperTest {
         Escaper escaper = Escaper.builder().add('a', "aaa").build();
         assertEquals("aaa", escaper.escape("a"));
         assertEquals("b", escaper.escape("b"));
+        String noEscaping = "bcd Čolek";
+        assertSame(noEscaping, escaper.escape(noEscaping));
 
         Escaper html = Escaper.builder().add('"', "&quot;").add('\'', "&#39;")
                 .add('&', "&amp;").add('<', "&lt;").add('>', "&gt;").build();
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
+
+        Escaper nonAscii = Escaper.builder().add('Č', "C").build();
+        assertEquals("Colek <a>", nonAscii.escape("Čolek <a>"));
     }
 
     @Test
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -208,4 +211,64 @@ public class SimpleTest {
             assertEquals("Not found: foo", expected.getMessage());
         }
     }
+
+    @Test
+    public void testResolverPriorityForEachValue() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+            @Override
+            public int getPriority() {
+                return 10;
+            }
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                // Depends on the value of the base, not only on its class
+                return context.getBase() instanceof Map && ((Map<?, ?>) context.getBase()).containsKey("special")
+                        && context.getName().equals("name");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return CompletableFuture.completedFuture("special");
+            }
+        }).build();
+        List<Map<String, String>> items = new ArrayList<>();
+        for (String name : new String[] { "alpha", "bravo", "charlie", "delta" }) {
+            Map<String, String> item = new HashMap<>();
+            item.put("name", name);
+            if (items.size() % 2 == 1) {
+                item.put("special", "true");
+            }
+            items.add(item);
+        }
+        Template template = engine.parse("{#each this}{it.name}:{/each}");
+        // Every rendering must consult the resolvers in priority order
+        assertEquals("alpha:special:charlie:special:", template.render(items));
+        assertEquals("alpha:special:charlie:special:", template.render(items));
+    }
+
+    @Test
+    public void testUtf8ResultConsumer() {
+        Engine engine = Engine.builder().addDefaults().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> encoded = new ArrayList<>();
+        engine.parse("Čolek {name}!").data("name", "Ťuk").consume(new Utf8ResultConsumer() {
+
+            @Override
+            public void accept(String text) {
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                out.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void acceptUtf8(String text, byte[] utf8) {
+                encoded.add(text);
+                out.write(utf8, 0, utf8.length);
+            }
+        });
+        assertEquals("Čolek Ťuk!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(2, encoded.size());
+        assertEquals("Čolek ", encoded.get(0));
+    }
 }